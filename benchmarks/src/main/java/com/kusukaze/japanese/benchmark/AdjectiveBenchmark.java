@@ -0,0 +1,129 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.Adjective;
+import com.kusukaze.japanese.yougen.AdjectiveNoun;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 形容词、形容动词各变形的基准测试，输入为常用词的固定抽样
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdjectiveBenchmark {
+    /** 抽样的单词数，须为2的幂 */
+    @Param({"256"})
+    public int size;
+
+    private Adjective[] adjectives;
+    private AdjectiveNoun[] adjectiveNouns;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] adjectiveNames = BenchmarkInputs.sample(BenchmarkInputs.ADJECTIVES, size);
+        String[] adjectiveNounNames = BenchmarkInputs.sample(BenchmarkInputs.ADJECTIVE_NOUNS, size);
+        adjectives = new Adjective[size];
+        adjectiveNouns = new AdjectiveNoun[size];
+        for(int i=0;i<size;i++) {
+            adjectives[i] = new Adjective(adjectiveNames[i]);
+            adjectiveNouns[i] = new AdjectiveNoun(adjectiveNounNames[i]);
+        }
+    }
+
+    private Adjective nextAdjective() {
+        return adjectives[index++ & (size - 1)];
+    }
+
+    private AdjectiveNoun nextAdjectiveNoun() {
+        return adjectiveNouns[index++ & (size - 1)];
+    }
+
+    @Benchmark
+    public String adjectiveTeForm() {
+        return nextAdjective().teForm();
+    }
+
+    @Benchmark
+    public String adjectiveNaiForm() {
+        return nextAdjective().naiForm();
+    }
+
+    @Benchmark
+    public String adjectiveDesuForm() {
+        return nextAdjective().desuForm();
+    }
+
+    @Benchmark
+    public String adjectiveDesuMasuForm() {
+        return nextAdjective().desuMasuForm();
+    }
+
+    @Benchmark
+    public String adjectiveTaForm() {
+        return nextAdjective().taForm();
+    }
+
+    @Benchmark
+    public String adjectiveBaForm() {
+        return nextAdjective().baForm();
+    }
+
+    @Benchmark
+    public String adjectiveVolitionalForm() {
+        return nextAdjective().volitionalForm();
+    }
+
+    @Benchmark
+    public String adjectiveZuForm() {
+        return nextAdjective().zuForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounTeForm() {
+        return nextAdjectiveNoun().teForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounNaiForm() {
+        return nextAdjectiveNoun().naiForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounDesuForm() {
+        return nextAdjectiveNoun().desuForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounDesuMasuForm() {
+        return nextAdjectiveNoun().desuMasuForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounTaForm() {
+        return nextAdjectiveNoun().taForm();
+    }
+
+    @Benchmark
+    public String adjectiveNounZuForm() {
+        return nextAdjectiveNoun().zuForm();
+    }
+}
@@ -0,0 +1,259 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.constants.VerbTypeConstants;
+
+/**
+ * 改为规则表之前的动词变形实现，作为{@link GoldenHarness}的参照引擎baseline<p>
+ * 变形逻辑（按类型前缀逐个startsWith判断、逐次拼接子串）原样复制自最初的Verb，
+ * toSpecificDan复制自最初的GojuuonzuUtils（在假名表中indexOf），不依赖库中后来优化过的代码，
+ * 因此快照可以随时由这份实现重新核对。不要修改
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class BaselineVerb {
+    private static final String hiraganaTable =
+            "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほ" +
+            "まみむめもやいゆえよらりるれろわゐうゑをがぎぐげござじずぜぞ" +
+            "だぢづでどばびぶべぼぱぴぷぺぽぁぃぅぇぉゃゅょっん";
+
+    private final String name;
+    private final String verbType;
+
+    BaselineVerb(String verbName, String verbType) {
+        this.name = verbName;
+        this.verbType = verbType;
+    }
+
+    /**
+     * 将平假名转换为指定段上的假名<p>
+     * 仅用于动词变形，不完全按照五十音图变化
+     * は行假名将转化为あ行
+     * 若结果为あ，则转化为わ
+     * 若匹配失败，则原样返回
+     *
+     * @param hiragana 待转化的平假名
+     * @param dan 需要转化为哪一段，取值范围为「あいうえお」
+     * @return 转化后的平假名
+     */
+    private static String toSpecificDan(char hiragana,char dan)
+    {
+        String dans = "あいうえお";
+        int pos = hiraganaTable.indexOf(hiragana);
+        if(pos < 0) {
+            return String.valueOf(hiragana);
+        }
+        int row = pos / 5;
+        int line = dans.indexOf(dan);
+        if(line < 0) {
+            return String.valueOf(hiragana);
+        }
+        if(row == 5) {
+            row = 0;
+        }
+        if(row == 0 && line == 0) {
+            return "わ";
+        }
+        return String.valueOf(hiraganaTable.charAt(row*5+line));
+    }
+
+    /**
+     * 动词的通用工具函数
+     * @param specificDan 一类动词最后的假名需要变为哪一段
+     * @param godanSuffix 一类动词后缀
+     * @param ichidanSuffix 二类动词后缀
+     * @param suruSuffix する后缀
+     * @param kuruSuffix 来る后缀
+     * @param kuruNewKana 来る写作假名くる时，く对应的新假名
+     * @return 变化后的字符串
+     */
+    private String verbUtil(char specificDan,String godanSuffix,String ichidanSuffix,
+                            String suruSuffix,String kuruSuffix,char kuruNewKana) {
+        if(verbType == null) {
+            return null;
+        }
+        int n = name.length();
+
+        // 一类动词：将最后一个假名改为specificDan段，并添加后缀godanSuffix
+        if(verbType.startsWith(VerbTypeConstants.GODAN)) {
+            return name.substring(0,n-1) +
+                    toSpecificDan(name.charAt(n-1),specificDan) + godanSuffix;
+        }
+        // 二类动词：去掉最后的假名る，并添加后缀ichidanSuffix
+        if(verbType.startsWith(VerbTypeConstants.ICHIDAN)) {
+            return name.substring(0,n-1) + ichidanSuffix;
+        }
+        // する：去掉最后的する，并添加后缀suruSuffix
+        if(verbType.startsWith(VerbTypeConstants.SURU)) {
+            return name.substring(0,n-2) + suruSuffix;
+        }
+        // 来る：去掉最后的くる，并添加kuruNewKana和后缀kuruSuffix。若写作汉字 来る，则直接去る加后缀
+        if(verbType.startsWith(VerbTypeConstants.KURU)) {
+            char lastButOneChar = name.charAt(n-2);
+            if(lastButOneChar != 'く') {
+                return name.substring(0,n-1) + kuruSuffix;
+            }
+            return name.substring(0,n-2) + kuruNewKana + kuruSuffix;
+        }
+        // 古语-ずる：转化为じる，再视为二类动词
+        if(verbType.startsWith(VerbTypeConstants.ZURU)) {
+            return name.substring(0,n-2) + "じ" + ichidanSuffix;
+        }
+        // 古语-上二段：将最后一个假名改为い段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
+        if(verbType.startsWith(VerbTypeConstants.NIDAN) && verbType.endsWith("k")) {
+            return name.substring(0,n-1) +
+                    toSpecificDan(name.charAt(n-1),'い') + ichidanSuffix;
+        }
+        // 古语-下二段：将最后一个假名改为え段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
+        if(verbType.startsWith(VerbTypeConstants.NIDAN) && verbType.endsWith("s")) {
+            return name.substring(0,n-1) +
+                    toSpecificDan(name.charAt(n-1),'え') + ichidanSuffix;
+        }
+        return null;
+    }
+
+    String teForm() {
+        if(verbType == null) {
+            return null;
+        }
+        int n = name.length();
+
+        // 行く
+        if(verbType.equals(VerbTypeConstants.IKU)) {
+            return name.substring(0,n-1) + "って";
+        }
+        // 問う
+        if(verbType.equals(VerbTypeConstants.TOU)) {
+            return name + "て";
+        }
+        // 一类动词
+        if(verbType.startsWith(VerbTypeConstants.GODAN)) {
+            char last = name.charAt(n-1);   // 判断动词结尾
+            if(last == 'る' || last == 'つ' || last == 'う') {
+                return name.substring(0,n-1) + "って";
+            }
+            if(last == 'ぶ' || last == 'ぬ' || last == 'む') {
+                return name.substring(0,n-1) + "んで";
+            }
+            if(last == 'す') {
+                return name.substring(0,n-1) + "して";
+            }
+            if(last == 'く') {
+                return name.substring(0,n-1) + "いて";
+            }
+            if(last == 'ぐ') {
+                return name.substring(0,n-1) + "いで";
+            }
+            return null;
+        }
+        // 其余类型处理。因为已经处理过一类动词，所以前两个参数无影响
+        return verbUtil('　',"","て","して","て",'き');
+    }
+
+    String naiForm() {
+        if(verbType == null) {
+            return null;
+        }
+        int n = name.length();
+
+        // ある
+        if(verbType.equals(VerbTypeConstants.ARU)) {
+            return name.substring(0,n-2) + "ない";
+        }
+        return verbUtil('あ',"ない","ない","しない","ない",'こ');
+    }
+
+    String masuForm() {
+        if(verbType == null) {
+            return null;
+        }
+        int n = name.length();
+
+        // くださる
+        if(verbType.equals(VerbTypeConstants.KUDASARU)) {
+            return name.substring(0,n-1) + "います";
+        }
+        return verbUtil('い',"ます","ます","します","ます",'き');
+    }
+
+    String taForm() {
+        String teVerb = teForm();
+        if(teVerb == null) {
+            return null;
+        }
+        int n = teVerb.length();
+        char lastChar = teVerb.charAt(n-1);
+        if(lastChar == 'て') {
+            return teVerb.substring(0,n-1) + "た";
+        }
+        if(lastChar == 'で') {
+            return teVerb.substring(0,n-1) + "だ";
+        }
+        return null;
+    }
+
+    String baForm() {
+        return verbUtil('え',"ば","れば","すれば","れば",'く');
+    }
+
+    String volitionalForm() {
+        return verbUtil('お',"う","よう","しよう","よう",'こ');
+    }
+
+    String imperativeForm() {
+        if(verbType == null) {
+            return null;
+        }
+        int n = name.length();
+        // くださる
+        if(verbType.equals(VerbTypeConstants.KUDASARU)) {
+            return name.substring(0,n-1) + "い";
+        }
+        // くれる
+        if(verbType.equals(VerbTypeConstants.KURERU)) {
+            return name.substring(0,n-1);
+        }
+        // 古语-二段动词 呉る
+        if(verbType.startsWith(VerbTypeConstants.NIDAN) && name.endsWith("呉る")) {
+            return name.substring(0,n-1) + "れ";
+        }
+        return verbUtil('え',"","ろ","しろ","い",'こ');
+    }
+
+    String potentialForm() {
+        // 察する
+        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
+            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
+        }
+        return verbUtil('え',"る","られる","できる","られる",'こ');
+    }
+
+    String passiveForm() {
+        // 察する
+        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
+            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
+        }
+        return verbUtil('あ',"れる","られる","される","られる",'こ');
+    }
+
+    String causativeForm() {
+        // 察する
+        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
+            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
+        }
+        return verbUtil('あ',"せる","させる","させる","させる",'こ');
+    }
+
+    String causativePassiveForm() {
+        // 察する
+        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
+            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
+        }
+        return verbUtil('あ',"される","させられる",
+                "させられる","させられる",'こ');
+    }
+
+    String zuForm() {
+        return verbUtil('あ',"ず","ず","せず","ず",'こ');
+    }
+}
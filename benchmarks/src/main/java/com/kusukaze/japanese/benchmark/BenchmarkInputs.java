@@ -0,0 +1,106 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryLoader;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryParser;
+import com.kusukaze.japanese.yougen.VerbClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试的输入：解析类路径中的verbDictionary.txt，按固定种子抽样，各次运行的输入相同<p>
+ * 字典中只有动词，形容词和形容动词使用固定的常用词
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class BenchmarkInputs {
+    static final long SEED = 20261018L;
+
+    static final String[] ADJECTIVES = {
+            "美しい", "かわいい", "かっこいい", "いい", "よい", "大きい", "小さい", "高い", "安い", "新しい",
+            "古い", "長い", "短い", "早い", "遅い", "暑い", "寒い", "楽しい", "難しい", "優しい",
+            "強い", "弱い", "多い", "少ない", "近い", "遠い", "忙しい", "嬉しい", "悲しい", "面白い"
+    };
+
+    static final String[] ADJECTIVE_NOUNS = {
+            "静か", "綺麗", "元気", "有名", "親切", "便利", "簡単", "大切", "大丈夫", "好き",
+            "嫌い", "上手", "下手", "暇", "丈夫", "賑やか", "素敵", "真面目", "自由", "大変",
+            "安全", "危険", "必要", "十分", "不便", "複雑", "特別", "普通", "豊か", "確か"
+    };
+
+    private BenchmarkInputs() {}
+
+    /**
+     * 字典中的一个条目
+     */
+    static final class Entry {
+        // 写法，没有汉字时为读音
+        final String kaki;
+        final String yomi;
+        final String type;
+
+        Entry(String kaki, String yomi, String type) {
+            this.kaki = kaki;
+            this.yomi = yomi;
+            this.type = type;
+        }
+    }
+
+    /**
+     * 从字典中抽样有变形规则的动词
+     *
+     * @param count 抽样数量
+     * @return 按固定种子抽样的条目
+     */
+    static List<Entry> sampleVerbs(int count) {
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : readDictionary()) {
+            if(VerbClass.of(entry.type) != VerbClass.UNKNOWN) {
+                entries.add(entry);
+            }
+        }
+        Collections.shuffle(entries, new Random(SEED));
+        return entries.subList(0, Math.min(count, entries.size()));
+    }
+
+    /**
+     * 以固定种子从数组中重复抽样
+     */
+    static String[] sample(String[] words, int count) {
+        Random random = new Random(SEED);
+        String[] sampled = new String[count];
+        for(int i=0;i<count;i++) {
+            sampled[i] = words[random.nextInt(words.length)];
+        }
+        return sampled;
+    }
+
+    /**
+     * 用VerbDictionaryParser解析类路径中的文本字典，条目与库实际使用的相同（如名词+する已补全する）
+     */
+    static List<Entry> readDictionary() {
+        VerbDictionary dictionary;
+        try (InputStream in = BenchmarkInputs.class.getResourceAsStream(VerbDictionaryLoader.SOURCE_RESOURCE)) {
+            if(in == null) {
+                throw new IllegalStateException("类路径中没有" + VerbDictionaryLoader.SOURCE_RESOURCE);
+            }
+            dictionary = VerbDictionaryParser.parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Entry> entries = new ArrayList<>(dictionary.size());
+        for(int i=0;i<dictionary.size();i++) {
+            entries.add(new Entry(dictionary.getKaki(i), dictionary.getYomi(i), dictionary.getType(i)));
+        }
+        return entries;
+    }
+}
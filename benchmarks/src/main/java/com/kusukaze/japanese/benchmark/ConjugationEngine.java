@@ -0,0 +1,31 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.VerbForm;
+
+/**
+ * 变形引擎：{@link GoldenHarness}测量和比较的对象<p>
+ * 每个动词先调用一次prepare（如构造Verb对象），再对每种变形调用conjugate。
+ * 除内置引擎外，实现此接口并带有无参构造方法的类可以通过完整类名传给GoldenHarness
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public interface ConjugationEngine<V> {
+    /**
+     * 准备一个动词
+     *
+     * @param verbName 动词
+     * @param verbType 字典中的动词类型
+     * @return 传给conjugate的对象
+     */
+    V prepare(String verbName, String verbType);
+
+    /**
+     * 将动词的指定变形追加到out末尾
+     *
+     * @param verb prepare的返回值
+     * @param form 变形种类
+     * @param out 输出
+     * @return 是否追加成功；无法变形时返回false
+     */
+    boolean conjugate(V verb, VerbForm form, StringBuilder out);
+}
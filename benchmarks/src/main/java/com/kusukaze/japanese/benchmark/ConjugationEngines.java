@@ -0,0 +1,126 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbClass;
+import com.kusukaze.japanese.yougen.VerbForm;
+
+/**
+ * 内置的变形引擎<p>
+ * string：Verb的各xxxForm()方法，返回字符串；
+ * append：Verb.appendForm，写入StringBuilder；
+ * rules：直接使用VerbClass的规则表，不构造Verb；
+ * baseline：最初的逐个startsWith实现（{@link BaselineVerb}），作为核对快照的参照
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class ConjugationEngines {
+    static final String[] BUILT_IN = {"string", "append", "rules", "baseline"};
+
+    private ConjugationEngines() {}
+
+    /**
+     * 按名称返回引擎
+     *
+     * @param name 内置引擎的名称，或实现了ConjugationEngine的类的完整类名
+     * @return 引擎
+     */
+    static ConjugationEngine<?> of(String name) {
+        switch (name) {
+            case "string": return new StringEngine();
+            case "append": return new AppendEngine();
+            case "rules": return new RulesEngine();
+            case "baseline": return new BaselineEngine();
+            default: break;
+        }
+        try {
+            return (ConjugationEngine<?>) Class.forName(name).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("未知的变形引擎：" + name + "（内置引擎：" + String.join("、", BUILT_IN) + "）", e);
+        }
+    }
+
+    private static final class StringEngine implements ConjugationEngine<Verb> {
+        @Override
+        public Verb prepare(String verbName, String verbType) {
+            return new Verb(verbName, verbType);
+        }
+
+        @Override
+        public boolean conjugate(Verb verb, VerbForm form, StringBuilder out) {
+            String value = form.apply(verb);
+            if(value == null) {
+                return false;
+            }
+            out.append(value);
+            return true;
+        }
+    }
+
+    private static final class AppendEngine implements ConjugationEngine<Verb> {
+        @Override
+        public Verb prepare(String verbName, String verbType) {
+            return new Verb(verbName, verbType);
+        }
+
+        @Override
+        public boolean conjugate(Verb verb, VerbForm form, StringBuilder out) {
+            return verb.appendForm(form, out);
+        }
+    }
+
+    private static final class RulesEngine implements ConjugationEngine<RulesEngine.Prepared> {
+        static final class Prepared {
+            final String name;
+            final VerbClass verbClass;
+
+            Prepared(String name, VerbClass verbClass) {
+                this.name = name;
+                this.verbClass = verbClass;
+            }
+        }
+
+        @Override
+        public Prepared prepare(String verbName, String verbType) {
+            return new Prepared(verbName, VerbClass.of(verbType));
+        }
+
+        @Override
+        public boolean conjugate(Prepared verb, VerbForm form, StringBuilder out) {
+            return verb.verbClass.appendForm(verb.name, form, out);
+        }
+    }
+
+    private static final class BaselineEngine implements ConjugationEngine<BaselineVerb> {
+        @Override
+        public BaselineVerb prepare(String verbName, String verbType) {
+            return new BaselineVerb(verbName, verbType);
+        }
+
+        @Override
+        public boolean conjugate(BaselineVerb verb, VerbForm form, StringBuilder out) {
+            String value = apply(verb, form);
+            if(value == null) {
+                return false;
+            }
+            out.append(value);
+            return true;
+        }
+
+        private static String apply(BaselineVerb verb, VerbForm form) {
+            switch (form) {
+                case TE: return verb.teForm();
+                case TA: return verb.taForm();
+                case NAI: return verb.naiForm();
+                case MASU: return verb.masuForm();
+                case BA: return verb.baForm();
+                case VOLITIONAL: return verb.volitionalForm();
+                case IMPERATIVE: return verb.imperativeForm();
+                case POTENTIAL: return verb.potentialForm();
+                case PASSIVE: return verb.passiveForm();
+                case CAUSATIVE: return verb.causativeForm();
+                case CAUSATIVE_PASSIVE: return verb.causativePassiveForm();
+                default: return verb.zuForm();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字典查询的基准测试：getVerbType（命中、未命中）和getVerbNameByKanjiOrKana，输入为字典中抽样的动词
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+    /** 抽样的动词数，须为2的幂 */
+    @Param({"1024"})
+    public int size;
+
+    private String[] hits;
+    private String[] misses;
+    private String[] readings;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DictionaryUtils.loadVerbDictionary(false);
+        List<BenchmarkInputs.Entry> entries = BenchmarkInputs.sampleVerbs(size);
+        hits = new String[size];
+        readings = new String[size];
+        List<String> notFound = new ArrayList<>();
+        for(int i=0;i<size;i++) {
+            BenchmarkInputs.Entry entry = entries.get(i % entries.size());
+            hits[i] = entry.kaki;
+            readings[i] = entry.yomi;
+            // 未命中：将最后一个假名改为ゑ，字典中没有以ゑ结尾的动词
+            String miss = entry.kaki.substring(0, entry.kaki.length() - 1) + "ゑ";
+            if(DictionaryUtils.getVerbType(miss) == null) {
+                notFound.add(miss);
+            }
+        }
+        misses = new String[size];
+        for(int i=0;i<size;i++) {
+            misses[i] = notFound.get(i % notFound.size());
+        }
+    }
+
+    private int next() {
+        return index++ & (size - 1);
+    }
+
+    @Benchmark
+    public String getVerbTypeHit() {
+        return DictionaryUtils.getVerbType(hits[next()]);
+    }
+
+    @Benchmark
+    public String getVerbTypeMiss() {
+        return DictionaryUtils.getVerbType(misses[next()]);
+    }
+
+    @Benchmark
+    public List<String> getVerbNameByKanjiOrKana() {
+        return DictionaryUtils.getVerbNameByKanjiOrKana(readings[next()]);
+    }
+}
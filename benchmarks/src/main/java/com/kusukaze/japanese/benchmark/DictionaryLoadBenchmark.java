@@ -0,0 +1,68 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 加载整个动词字典（loadVerbDictionary）的基准测试：从类路径中的快照加载，或解析文本字典
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DictionaryLoadBenchmark {
+    /** snapshot：类路径中的快照；text：复制到临时文件的文本字典 */
+    @Param({"snapshot", "text"})
+    public String source;
+
+    private Path textDictionary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if("text".equals(source)) {
+            textDictionary = Files.createTempFile("verbDictionary", ".txt");
+            try (InputStream in = DictionaryLoadBenchmark.class.getResourceAsStream(VerbDictionaryLoader.SOURCE_RESOURCE)) {
+                Files.copy(in, textDictionary, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        DictionaryUtils.configure(textDictionary, LoadMode.LAZY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        DictionaryUtils.configure(null, LoadMode.LAZY);
+        if(textDictionary != null) {
+            Files.deleteIfExists(textDictionary);
+        }
+    }
+
+    @Benchmark
+    public int loadVerbDictionary() {
+        return DictionaryUtils.loadVerbDictionary(true);
+    }
+}
@@ -0,0 +1,230 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryLoader;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryParser;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionarySnapshot;
+import com.kusukaze.japanese.yougen.ConjugationCache;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 字典内存占用的回归检查：用JOL统计各结构的深度保留堆大小，输出每个条目的字节数，超出预算时以状态1退出<p>
+ * 检查的结构：
+ * <ul>
+ *     <li>dictionary-text：解析文本字典得到的字典</li>
+ *     <li>dictionary-snapshot：从jar包中的快照读入堆内的字典（默认的加载方式）</li>
+ *     <li>dictionary-mapped：内存映射快照文件的字典，数据在堆外，由同一主机上的各JVM共享</li>
+ *     <li>verb-cache：写满的Verb.of缓存，按缓存的动词计</li>
+ *     <li>conjugation-cache：写满的变形结果缓存，按缓存的结果计</li>
+ * </ul>
+ * 预算（堆内字节/条目）记录在{@value #BUDGETS_RESOURCE}中，随基准测试一同提交。<p>
+ * 用法：FootprintCheck [--budgets 预算文件路径] [--budget 名称=每条目字节数]...，--budget覆盖文件中的单项预算
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class FootprintCheck {
+    private static final int CACHE_CAPACITY = 4096;
+
+    /** 类路径中的预算文件 */
+    public static final String BUDGETS_RESOURCE = "/footprint-budgets.properties";
+    private static final String[] STRUCTURES = {
+            "dictionary-text", "dictionary-snapshot", "dictionary-mapped", "verb-cache", "conjugation-cache"};
+
+    public static void main(String[] args) throws Exception {
+        // 缓存的键中有lambda（隐藏类），需要JOL用另一种方式获取字段偏移，须在JOL初始化前设置
+        System.setProperty("jol.magicFieldOffset", "true");
+        String budgetsPath = null;
+        List<String> overrides = new ArrayList<>();
+        for(int i=0;i<args.length;i++) {
+            if(i + 1 >= args.length) {
+                throw new IllegalArgumentException("参数缺少值：" + args[i]);
+            }
+            switch (args[i]) {
+                case "--budgets": budgetsPath = args[++i]; break;
+                case "--budget": overrides.add(args[++i]); break;
+                default: throw new IllegalArgumentException("未知的参数：" + args[i]);
+            }
+        }
+        Map<String,Double> budgets = readBudgets(budgetsPath);
+        for (String override : overrides) {
+            String[] budget = override.split("=", 2);
+            if(budget.length != 2 || !budgets.containsKey(budget[0])) {
+                throw new IllegalArgumentException("预算格式应为 名称=每条目字节数，名称为" + budgets.keySet() + "之一：" + override);
+            }
+            budgets.put(budget[0], Double.parseDouble(budget[1]));
+        }
+
+        List<Result> results = new ArrayList<>();
+        byte[] snapshot = snapshotBytes();
+
+        VerbDictionary text = parseText();
+        results.add(new Result("dictionary-text", GraphLayout.parseInstance(text).totalSize(), text.size(), 0));
+        text = null;
+
+        VerbDictionary inHeap = VerbDictionarySnapshot.read(ByteBuffer.wrap(snapshot));
+        results.add(new Result("dictionary-snapshot", GraphLayout.parseInstance(inHeap).totalSize(), inHeap.size(), 0));
+        inHeap = null;
+
+        Path file = Files.createTempFile("verbDictionary", ".bin");
+        try {
+            Files.write(file, snapshot);
+            VerbDictionary mapped = VerbDictionarySnapshot.map(file);
+            results.add(new Result("dictionary-mapped", GraphLayout.parseInstance(mapped).totalSize(), mapped.size(),
+                    mapped.getDataBytes()));
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // Windows上映射中的文件无法删除，留给系统清理
+            }
+        }
+
+        results.add(measureVerbCache());
+        results.add(measureConjugationCache());
+
+        boolean failed = false;
+        System.out.printf("%-20s %12s %8s %12s %12s%n", "结构", "堆内字节", "条目", "字节/条目", "预算");
+        for (Result result : results) {
+            double budget = budgets.get(result.name);
+            boolean over = result.bytesPerEntry() > budget;
+            failed |= over;
+            System.out.printf("%-20s %12d %8d %12.1f %12.1f%s%n", result.name, result.heapBytes, result.entries,
+                    result.bytesPerEntry(), budget, over ? "  超出预算" : "");
+            if(result.offHeapBytes > 0) {
+                System.out.printf("%-20s 另有堆外映射 %d 字节（%.1f 字节/条目），由各JVM共享%n", "",
+                        result.offHeapBytes, (double) result.offHeapBytes / result.entries);
+            }
+        }
+        if(failed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 读取预算文件，每个结构都必须有预算
+     *
+     * @param path 文件路径，为null时读取类路径中的{@value #BUDGETS_RESOURCE}
+     * @return 结构名称到预算的映射
+     */
+    private static Map<String,Double> readBudgets(String path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = path != null ? Files.newInputStream(Paths.get(path))
+                : FootprintCheck.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            if(in == null) {
+                throw new IOException("类路径中没有" + BUDGETS_RESOURCE);
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        String source = path != null ? path : BUDGETS_RESOURCE;
+        Map<String,Double> budgets = new LinkedHashMap<>();
+        for (String structure : STRUCTURES) {
+            String value = properties.getProperty(structure);
+            if(value == null) {
+                throw new IOException(source + "中缺少预算：" + structure);
+            }
+            budgets.put(structure, Double.parseDouble(value.trim()));
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if(!budgets.containsKey(name)) {
+                throw new IOException(source + "中有未知的结构：" + name);
+            }
+        }
+        return budgets;
+    }
+
+    private static Result measureVerbCache() throws ReflectiveOperationException {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        int count = 0;
+        for(int i=0;i<dictionary.size() && count < CACHE_CAPACITY;i++) {
+            String name = dictionary.getKaki(i);
+            if(dictionary.findFirstByKaki(name) == i) {
+                Verb.of(name);
+                count++;
+            }
+        }
+        Object cache = staticField(Verb.class, "CACHE");
+        return new Result("verb-cache", GraphLayout.parseInstance(cache).totalSize(), count, 0);
+    }
+
+    private static Result measureConjugationCache() throws ReflectiveOperationException {
+        ConjugationCache.enable(CACHE_CAPACITY);
+        try {
+            VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+            VerbForm[] forms = VerbForm.values();
+            int count = 0;
+            for(int i=0;i<dictionary.size() && count < CACHE_CAPACITY;i++) {
+                Verb verb = new Verb(dictionary.getKaki(i), dictionary.getType(i));
+                for(int j=0;j<forms.length && count < CACHE_CAPACITY;j++) {
+                    forms[j].apply(verb);
+                    count++;
+                }
+            }
+            Object cache = staticField(ConjugationCache.class, "cache");
+            int size = ConjugationCache.stats().getSize();
+            return new Result("conjugation-cache", GraphLayout.parseInstance(cache).totalSize(), size, 0);
+        } finally {
+            ConjugationCache.disable();
+        }
+    }
+
+    private static Object staticField(Class<?> type, String name) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static VerbDictionary parseText() throws IOException {
+        try (InputStream in = FootprintCheck.class.getResourceAsStream(VerbDictionaryLoader.SOURCE_RESOURCE)) {
+            if(in == null) {
+                throw new IOException("类路径中没有" + VerbDictionaryLoader.SOURCE_RESOURCE);
+            }
+            return VerbDictionaryParser.parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static byte[] snapshotBytes() throws IOException {
+        try (InputStream in = FootprintCheck.class.getResourceAsStream(VerbDictionaryLoader.SNAPSHOT_RESOURCE)) {
+            if(in == null) {
+                throw new IOException("类路径中没有" + VerbDictionaryLoader.SNAPSHOT_RESOURCE + "，需要先在上级目录执行 mvn install");
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private static final class Result {
+        final String name;
+        final long heapBytes;
+        final int entries;
+        final long offHeapBytes;
+
+        Result(String name, long heapBytes, int entries, long offHeapBytes) {
+            this.name = name;
+            this.heapBytes = heapBytes;
+            this.entries = entries;
+            this.offHeapBytes = offHeapBytes;
+        }
+
+        double bytesPerEntry() {
+            return entries == 0 ? 0 : (double) heapBytes / entries;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.VerbForm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 全字典变形的黄金输出检查与吞吐量测试<p>
+ * 将字典中每个条目的每种变形与黄金快照比较，再测量吞吐量（动词/秒）、单次变形调用的p50/p99延迟，
+ * 以及每个动词分配的字节数（ThreadMXBean统计当前线程的分配量）。指定--compare时两个引擎逐项互相比较，并分别测量。
+ * 有任何不一致时以状态1退出。<p>
+ * 用法：GoldenHarness [--engine 引擎] [--compare 引擎] [--golden 快照路径] [--write-golden 快照路径] [--warmup 轮数] [--rounds 轮数] [--check-only true]<p>
+ * 引擎为string、append、rules、baseline，或实现了{@link ConjugationEngine}的类的完整类名，默认append。
+ * baseline是最初的变形实现，mvn verify时以--compare baseline --check-only true运行，只做比较、不测量。
+ * 默认使用随基准测试打包的快照；变形结果有意改变时，用--write-golden重新生成并提交
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class GoldenHarness {
+    private static final VerbForm[] FORMS = VerbForm.values();
+    private static final int MAX_REPORTED_DIFFS = 10;
+
+    private final String[] names;
+    private final String[] types;
+    // 防止测量的结果被优化掉
+    private long checksum;
+
+    private GoldenHarness(List<BenchmarkInputs.Entry> entries) {
+        names = new String[entries.size()];
+        types = new String[entries.size()];
+        for(int i=0;i<names.length;i++) {
+            names[i] = entries.get(i).kaki;
+            types[i] = entries.get(i).type;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String engineName = "append";
+        String compareName = null;
+        String goldenPath = null;
+        String writePath = null;
+        int warmup = 5;
+        int rounds = 5;
+        boolean checkOnly = false;
+        for(int i=0;i<args.length;i++) {
+            String value = i + 1 < args.length ? args[i+1] : null;
+            switch (args[i]) {
+                case "--engine": engineName = value; break;
+                case "--compare": compareName = value; break;
+                case "--golden": goldenPath = value; break;
+                case "--write-golden": writePath = value; break;
+                case "--warmup": warmup = Integer.parseInt(value); break;
+                case "--rounds": rounds = Integer.parseInt(value); break;
+                case "--check-only": checkOnly = Boolean.parseBoolean(value); break;
+                default: throw new IllegalArgumentException("未知的参数：" + args[i]);
+            }
+            if(value == null) {
+                throw new IllegalArgumentException("参数缺少值：" + args[i]);
+            }
+            i++;
+        }
+
+        GoldenHarness harness = new GoldenHarness(BenchmarkInputs.readDictionary());
+        ConjugationEngine<?> engine = ConjugationEngines.of(engineName);
+        if(writePath != null) {
+            GoldenSnapshot snapshot = new GoldenSnapshot(harness.names, harness.types, harness.capture(engine));
+            Path path = Paths.get(writePath);
+            if(path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(path)) {
+                snapshot.write(out);
+            }
+            System.out.println("已用引擎 " + engineName + " 生成快照：" + path + "（" + snapshot.size() + " 个条目，"
+                    + Files.size(path) + " 字节）");
+            return;
+        }
+
+        GoldenSnapshot golden = readGolden(goldenPath);
+        if(!Arrays.equals(golden.names, harness.names) || !Arrays.equals(golden.types, harness.types)) {
+            System.out.println("快照与字典不一致，需要用--write-golden重新生成");
+            System.exit(2);
+        }
+        long diffs = harness.verify(engineName, engine, golden);
+        ConjugationEngine<?> compare = compareName == null ? null : ConjugationEngines.of(compareName);
+        if(compare != null) {
+            diffs += harness.verify(compareName, compare, golden);
+            diffs += harness.diff(engineName, engine, compareName, compare);
+        }
+        if(checkOnly) {
+            if(diffs > 0) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        Report report = harness.measure(engine, warmup, rounds);
+        report.print(engineName, harness.names.length);
+        if(compare != null) {
+            Report compareReport = harness.measure(compare, warmup, rounds);
+            compareReport.print(compareName, harness.names.length);
+            System.out.printf("%s / %s：吞吐量 %.2f 倍，p50 %.2f 倍，p99 %.2f 倍%n", compareName, engineName,
+                    compareReport.verbsPerSecond / report.verbsPerSecond,
+                    (double) compareReport.p50 / report.p50, (double) compareReport.p99 / report.p99);
+        }
+        System.out.println("校验和：" + harness.checksum);
+        if(diffs > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static GoldenSnapshot readGolden(String path) throws IOException {
+        if(path != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(path))) {
+                return GoldenSnapshot.read(in);
+            }
+        }
+        try (InputStream in = GoldenHarness.class.getResourceAsStream(GoldenSnapshot.RESOURCE)) {
+            if(in == null) {
+                throw new IOException("类路径中没有" + GoldenSnapshot.RESOURCE);
+            }
+            return GoldenSnapshot.read(in);
+        }
+    }
+
+    /**
+     * 用引擎计算全部变形
+     * @return 按[条目 * 变形种类数 + 变形序号]排列的结果，无法变形时为null，抛出异常时为"!异常类名"
+     */
+    private <V> String[] capture(ConjugationEngine<V> engine) {
+        String[] values = new String[names.length * FORMS.length];
+        StringBuilder out = new StringBuilder(64);
+        for(int i=0;i<names.length;i++) {
+            V verb;
+            try {
+                verb = engine.prepare(names[i], types[i]);
+            } catch (RuntimeException e) {
+                Arrays.fill(values, i * FORMS.length, (i + 1) * FORMS.length, "!" + e.getClass().getSimpleName());
+                continue;
+            }
+            for (VerbForm form : FORMS) {
+                out.setLength(0);
+                String value;
+                try {
+                    value = engine.conjugate(verb, form, out) ? out.toString() : null;
+                } catch (RuntimeException e) {
+                    value = "!" + e.getClass().getSimpleName();
+                }
+                values[i * FORMS.length + form.ordinal()] = value;
+            }
+        }
+        return values;
+    }
+
+    private long verify(String engineName, ConjugationEngine<?> engine, GoldenSnapshot golden) {
+        String[] actual = capture(engine);
+        long diffs = 0;
+        for(int i=0;i<actual.length;i++) {
+            if(!Objects.equals(actual[i], golden.values[i])) {
+                if(diffs++ < MAX_REPORTED_DIFFS) {
+                    int entry = i / FORMS.length;
+                    System.out.println("  " + names[entry] + "（" + types[entry] + "）" + FORMS[i % FORMS.length].getDisplayName()
+                            + "：快照 " + golden.values[i] + "，" + engineName + " " + actual[i]);
+                }
+            }
+        }
+        System.out.println("引擎 " + engineName + " 与快照比较：" + actual.length + " 项，" + diffs + " 项不一致");
+        return diffs;
+    }
+
+    private long diff(String firstName, ConjugationEngine<?> first, String secondName, ConjugationEngine<?> second) {
+        String[] a = capture(first);
+        String[] b = capture(second);
+        long diffs = 0;
+        for(int i=0;i<a.length;i++) {
+            if(!Objects.equals(a[i], b[i])) {
+                if(diffs++ < MAX_REPORTED_DIFFS) {
+                    int entry = i / FORMS.length;
+                    System.out.println("  " + names[entry] + "（" + types[entry] + "）" + FORMS[i % FORMS.length].getDisplayName()
+                            + "：" + firstName + " " + a[i] + "，" + secondName + " " + b[i]);
+                }
+            }
+        }
+        System.out.println("引擎 " + firstName + " 与 " + secondName + " 比较：" + a.length + " 项，" + diffs + " 项不一致");
+        return diffs;
+    }
+
+    private <V> Report measure(ConjugationEngine<V> engine, int warmup, int rounds) {
+        for(int i=0;i<warmup;i++) {
+            runRound(engine);
+        }
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        long threadId = Thread.currentThread().getId();
+        double[] verbsPerSecond = new double[rounds];
+        long allocated = 0;
+        for(int i=0;i<rounds;i++) {
+            long bytes = threads == null ? 0 : threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            runRound(engine);
+            long elapsed = System.nanoTime() - start;
+            if(threads != null) {
+                allocated += threads.getThreadAllocatedBytes(threadId) - bytes;
+            }
+            verbsPerSecond[i] = names.length * 1e9 / elapsed;
+        }
+        Arrays.sort(verbsPerSecond);
+
+        long[] latencies = new long[names.length * FORMS.length];
+        int count = timeCalls(engine, latencies);
+        Arrays.sort(latencies, 0, count);
+        Report report = new Report();
+        report.verbsPerSecond = verbsPerSecond[rounds / 2];
+        report.bytesPerVerb = threads == null ? -1 : (double) allocated / rounds / names.length;
+        report.p50 = latencies[(int) (count * 0.50)];
+        report.p99 = latencies[(int) (count * 0.99)];
+        report.timerOverhead = timerOverhead();
+        return report;
+    }
+
+    private <V> void runRound(ConjugationEngine<V> engine) {
+        StringBuilder out = new StringBuilder(64);
+        long sum = 0;
+        for(int i=0;i<names.length;i++) {
+            try {
+                V verb = engine.prepare(names[i], types[i]);
+                for (VerbForm form : FORMS) {
+                    out.setLength(0);
+                    if(engine.conjugate(verb, form, out)) {
+                        sum += out.length();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 已在与快照比较时报告
+                sum--;
+            }
+        }
+        checksum += sum;
+    }
+
+    /**
+     * 逐次计时每个变形调用（不含prepare）
+     * @return 记录的次数
+     */
+    private <V> int timeCalls(ConjugationEngine<V> engine, long[] latencies) {
+        StringBuilder out = new StringBuilder(64);
+        int count = 0;
+        long sum = 0;
+        for(int i=0;i<names.length;i++) {
+            V verb;
+            try {
+                verb = engine.prepare(names[i], types[i]);
+            } catch (RuntimeException e) {
+                continue;
+            }
+            for (VerbForm form : FORMS) {
+                out.setLength(0);
+                long start = System.nanoTime();
+                try {
+                    if(engine.conjugate(verb, form, out)) {
+                        sum += out.length();
+                    }
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+        checksum += sum;
+        return count;
+    }
+
+    /**
+     * 估计两次连续System.nanoTime()之间的耗时，单次延迟中包含这部分开销
+     */
+    private static long timerOverhead() {
+        long[] samples = new long[10001];
+        for(int i=0;i<samples.length;i++) {
+            long start = System.nanoTime();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if(bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if(threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    private static final class Report {
+        double verbsPerSecond;
+        double bytesPerVerb;
+        long p50;
+        long p99;
+        long timerOverhead;
+
+        void print(String engineName, int verbs) {
+            System.out.printf("引擎 %s：%d 个动词 × %d 种变形%n", engineName, verbs, FORMS.length);
+            System.out.printf("  吞吐量：%.0f 个动词/秒（各轮中位数）%n", verbsPerSecond);
+            System.out.printf("  单次变形延迟：p50 %d ns，p99 %d ns（含计时开销约 %d ns）%n", p50, p99, timerOverhead);
+            if(bytesPerVerb >= 0) {
+                System.out.printf("  每个动词分配：%.1f 字节%n", bytesPerVerb);
+            }
+            else {
+                System.out.println("  每个动词分配：当前JVM不支持统计");
+            }
+        }
+    }
+}
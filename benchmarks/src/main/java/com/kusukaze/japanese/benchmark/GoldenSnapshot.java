@@ -0,0 +1,131 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.VerbForm;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 全字典变形结果的黄金快照（gzip压缩的TSV）<p>
+ * 第一行以#开头，列出各列的含义；之后每行一个字典条目：写法、类型，以及按{@link VerbForm}顺序的各变形。
+ * 变形结果记作"从写法末尾去掉的字数:追加的后缀"（如論う的て形记作"1:って"），无法变形时为空，抛出异常时为"!异常类名"
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class GoldenSnapshot {
+    /** 随基准测试打包的快照 */
+    static final String RESOURCE = "/golden/verbConjugations.tsv.gz";
+
+    private static final VerbForm[] FORMS = VerbForm.values();
+
+    final String[] names;
+    final String[] types;
+    // 按[条目 * 变形种类数 + 变形序号]排列的变形结果，无法变形时为null
+    final String[] values;
+
+    GoldenSnapshot(String[] names, String[] types, String[] values) {
+        this.names = names;
+        this.types = types;
+        this.values = values;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    static GoldenSnapshot read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(in), StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if(header == null || !header.equals(header())) {
+            throw new IOException("快照的列与当前的VerbForm不一致，需要重新生成：" + header);
+        }
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        String line;
+        while((line = reader.readLine()) != null) {
+            String[] fields = line.split("\t", -1);
+            if(fields.length != FORMS.length + 2) {
+                throw new IOException("快照格式错误：" + line);
+            }
+            String name = fields[0];
+            names.add(name);
+            types.add(fields[1]);
+            for(int i=2;i<fields.length;i++) {
+                values.add(decode(name, fields[i]));
+            }
+        }
+        return new GoldenSnapshot(names.toArray(new String[0]), types.toArray(new String[0]), values.toArray(new String[0]));
+    }
+
+    void write(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(out), StandardCharsets.UTF_8));
+        writer.write(header());
+        writer.write('\n');
+        for(int i=0;i<names.length;i++) {
+            writer.write(names[i]);
+            writer.write('\t');
+            writer.write(types[i]);
+            for(int j=0;j<FORMS.length;j++) {
+                writer.write('\t');
+                writer.write(encode(names[i], values[i * FORMS.length + j]));
+            }
+            writer.write('\n');
+        }
+        writer.close();
+    }
+
+    private static String header() {
+        StringBuilder header = new StringBuilder("#写法\t类型");
+        for (VerbForm form : FORMS) {
+            header.append('\t').append(form.name());
+        }
+        return header.toString();
+    }
+
+    private static String encode(String name, String value) {
+        if(value == null) {
+            return "";
+        }
+        if(value.startsWith("!")) {
+            return value;
+        }
+        int common = 0;
+        int max = Math.min(name.length(), value.length());
+        while(common < max && name.charAt(common) == value.charAt(common)) {
+            common++;
+        }
+        return (name.length() - common) + ":" + value.substring(common);
+    }
+
+    private static String decode(String name, String field) throws IOException {
+        if(field.isEmpty()) {
+            return null;
+        }
+        if(field.startsWith("!")) {
+            return field;
+        }
+        int colon = field.indexOf(':');
+        int drop;
+        try {
+            drop = Integer.parseInt(field.substring(0, colon));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IOException("快照格式错误：" + name + " " + field, e);
+        }
+        if(drop > name.length()) {
+            throw new IOException("快照格式错误：" + name + " " + field);
+        }
+        return name.substring(0, name.length() - drop) + field.substring(colon + 1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.utils.GojuuonzuUtils;
+import com.kusukaze.japanese.utils.RomajiUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 平假名、片假名、罗马字之间转换的基准测试，输入为字典中抽样动词的读音
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KanaBenchmark {
+    /** 抽样的读音数，须为2的幂 */
+    @Param({"1024"})
+    public int size;
+
+    private String[] hiragana;
+    private String[] katakana;
+    private String[] romaji;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<BenchmarkInputs.Entry> entries = BenchmarkInputs.sampleVerbs(size);
+        hiragana = new String[size];
+        katakana = new String[size];
+        romaji = new String[size];
+        for(int i=0;i<size;i++) {
+            String yomi = entries.get(i % entries.size()).yomi;
+            hiragana[i] = GojuuonzuUtils.katakana2Hiragana(yomi);
+            katakana[i] = GojuuonzuUtils.hiragana2Katakana(hiragana[i]);
+            romaji[i] = RomajiUtils.kana2Romaji(hiragana[i]);
+        }
+    }
+
+    private int next() {
+        return index++ & (size - 1);
+    }
+
+    @Benchmark
+    public String katakana2Hiragana() {
+        return GojuuonzuUtils.katakana2Hiragana(katakana[next()]);
+    }
+
+    @Benchmark
+    public String hiragana2Katakana() {
+        return GojuuonzuUtils.hiragana2Katakana(hiragana[next()]);
+    }
+
+    /**
+     * 最后一个假名改为え段，即一类动词ば形、命令形使用的转换
+     */
+    @Benchmark
+    public char toSpecificDanChar() {
+        String word = hiragana[next()];
+        return GojuuonzuUtils.toSpecificDanChar(word.charAt(word.length() - 1), 'え');
+    }
+
+    @Benchmark
+    public String romaji2Hiragana() {
+        return RomajiUtils.romaji2Hiragana(romaji[next()]);
+    }
+
+    @Benchmark
+    public String hiragana2Romaji() {
+        return RomajiUtils.kana2Romaji(hiragana[next()]);
+    }
+
+    @Benchmark
+    public String katakana2Romaji() {
+        return RomajiUtils.kana2Romaji(katakana[next()]);
+    }
+}
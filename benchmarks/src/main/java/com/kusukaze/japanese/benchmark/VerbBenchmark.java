@@ -0,0 +1,77 @@
+package com.kusukaze.japanese.benchmark;
+
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 动词变形的基准测试：每种变形分别测量返回字符串的变形方法和写入StringBuilder的appendForm<p>
+ * 动词从字典中抽样，构造时已确定类型，测量的只是变形本身
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerbBenchmark {
+    /** 抽样的动词数，须为2的幂 */
+    @Param({"1024"})
+    public int size;
+
+    @Param({"TE", "TA", "NAI", "MASU", "BA", "VOLITIONAL", "IMPERATIVE",
+            "POTENTIAL", "PASSIVE", "CAUSATIVE", "CAUSATIVE_PASSIVE", "ZU"})
+    public VerbForm form;
+
+    private Verb[] verbs;
+    private final StringBuilder out = new StringBuilder(64);
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<BenchmarkInputs.Entry> entries = BenchmarkInputs.sampleVerbs(size);
+        verbs = new Verb[size];
+        for(int i=0;i<size;i++) {
+            BenchmarkInputs.Entry entry = entries.get(i % entries.size());
+            verbs[i] = new Verb(entry.kaki, entry.type);
+        }
+    }
+
+    private Verb next() {
+        return verbs[index++ & (size - 1)];
+    }
+
+    /**
+     * 经{@link VerbForm#apply(Verb)}调用对应的xxxForm()方法
+     */
+    @Benchmark
+    public String form() {
+        return form.apply(next());
+    }
+
+    /**
+     * 写入复用的StringBuilder，不应产生任何分配
+     */
+    @Benchmark
+    public int appendForm() {
+        out.setLength(0);
+        next().appendForm(form, out);
+        return out.length();
+    }
+}
@@ -0,0 +1,145 @@
+package com.kusukaze.japanese;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 动词变形表生成 - 导出字典中每个动词的全部变形<p>
+ * 用法：ConjugationTableGenerator [输出路径，- 表示标准输出] [并行度]<p>
+ * 按字典条目分段，用fork/join并行计算变形，结果按条目序号存放，因此输出顺序与字典顺序一致，与并行度无关。
+ * 输出为UTF-8的TSV：写法、读音、类型，以及{@link VerbForm}中的各个变形；无法变形的项留空。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class ConjugationTableGenerator {
+    private static final VerbForm[] FORMS = VerbForm.values();
+    // 每个任务至少处理的条目数
+    private static final int THRESHOLD = 512;
+
+    public static void main(String[] args) throws IOException {
+        String output = args.length > 0 ? args[0] : "verbConjugations.tsv";
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        long startTime = System.nanoTime();
+        String[][] table = generate(dictionary, parallelism);
+        long conjugateTime = System.nanoTime() - startTime;
+
+        if("-".equals(output)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            write(dictionary, table, writer);
+            writer.flush();
+        }
+        else {
+            Path path = Paths.get(output);
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                write(dictionary, table, writer);
+            }
+        }
+        long totalTime = System.nanoTime() - startTime;
+        System.err.printf("共 %d 个动词，并行度 %d   变形耗时：%d ms（%.0f 个/秒）   总耗时：%d ms（%.0f 个/秒）%n",
+                table.length, parallelism,
+                conjugateTime / 1_000_000, table.length * 1e9 / conjugateTime,
+                totalTime / 1_000_000, table.length * 1e9 / totalTime);
+    }
+
+    /**
+     * 并行计算字典中每个动词的全部变形
+     *
+     * @param dictionary 字典
+     * @param parallelism 并行度，为1时在当前线程计算
+     * @return 按条目序号排列的变形结果，每行依次为{@link VerbForm}中的各个变形，无法变形的项为null
+     */
+    public static String[][] generate(VerbDictionary dictionary, int parallelism) {
+        String[][] table = new String[dictionary.size()][];
+        ConjugateTask task = new ConjugateTask(dictionary, table, 0, table.length);
+        if(parallelism <= 1) {
+            task.compute();
+            return table;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(task);
+        } finally {
+            pool.shutdown();
+        }
+        return table;
+    }
+
+    private static void write(VerbDictionary dictionary, String[][] table, Writer writer) throws IOException {
+        writer.write("写法\t读音\t类型");
+        for (VerbForm form : FORMS) {
+            writer.write('\t');
+            writer.write(form.getDisplayName());
+        }
+        writer.write('\n');
+        for(int i=0;i<table.length;i++) {
+            writer.write(dictionary.getKaki(i));
+            writer.write('\t');
+            writer.write(dictionary.getYomi(i));
+            writer.write('\t');
+            writer.write(dictionary.getType(i));
+            for (String value : table[i]) {
+                writer.write('\t');
+                if(value != null) {
+                    writer.write(value);
+                }
+            }
+            writer.write('\n');
+        }
+    }
+
+    // 任务只在ForkJoinPool中执行，不会被序列化
+    @SuppressWarnings("serial")
+    private static class ConjugateTask extends RecursiveAction {
+        private final VerbDictionary dictionary;
+        private final String[][] table;
+        private final int from;
+        private final int to;
+
+        ConjugateTask(VerbDictionary dictionary, String[][] table, int from, int to) {
+            this.dictionary = dictionary;
+            this.table = table;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= THRESHOLD) {
+                for(int i=from;i<to;i++) {
+                    table[i] = conjugate(dictionary.getKaki(i), dictionary.getType(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConjugateTask(dictionary, table, from, mid),
+                    new ConjugateTask(dictionary, table, mid, to));
+        }
+    }
+
+    private static String[] conjugate(String kaki, String verbType) {
+        // 类型已知，不再查询字典
+        Verb verb = new Verb(kaki, verbType);
+        String[] row = new String[FORMS.length];
+        for (VerbForm form : FORMS) {
+            String value = form.apply(verb);
+            row[form.ordinal()] = NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.equals(value) ? null : value;
+        }
+        return row;
+    }
+}
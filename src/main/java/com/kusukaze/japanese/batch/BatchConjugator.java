@@ -0,0 +1,166 @@
+package com.kusukaze.japanese.batch;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 批量动词变形<p>
+ * 一次处理一批动词：先去掉重复的输入，再一次性查询字典得到各动词的类型，最后按{@link Verb}的规则计算所需的变形。
+ * 不重复的动词数超过阈值时，在{@link ForkJoinPool}中分段并行计算，否则直接在调用线程中计算。
+ * 结果与逐个{@code new Verb(动词)}后调用对应方法一致，只是Verb返回的「不会变喵」提示（无法变形）在结果中为null。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class BatchConjugator {
+    /** 默认阈值：不重复的动词数不超过此值时不并行 */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * 使用公共线程池和默认阈值
+     */
+    public BatchConjugator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool 用于并行计算的线程池
+     * @param threshold 并行阈值，同时也是每个子任务处理的最大动词数
+     */
+    public BatchConjugator(ForkJoinPool pool, int threshold) {
+        if(pool == null) {
+            throw new NullPointerException("pool");
+        }
+        if(threshold < 1) {
+            throw new IllegalArgumentException("阈值必须为正数：" + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 批量变形
+     *
+     * @param verbs 动词列表（字典中的写法）
+     * @param forms 需要的变形，结果的列按{@link VerbForm}的顺序排列
+     * @return 结果矩阵，第i行为第i个动词的各个变形；每行都是独立的数组；未找到的动词或无法变形的项为null
+     */
+    public String[][] conjugate(Collection<String> verbs, Set<VerbForm> forms) {
+        return conjugate(verbs.toArray(new String[0]), forms);
+    }
+
+    /**
+     * 批量变形
+     *
+     * @param verbs 动词数组（字典中的写法）
+     * @param forms 需要的变形，结果的列按{@link VerbForm}的顺序排列
+     * @return 结果矩阵，第i行为第i个动词的各个变形；每行都是独立的数组；未找到的动词或无法变形的项为null
+     */
+    public String[][] conjugate(String[] verbs, Set<VerbForm> forms) {
+        VerbForm[] columns = sortedForms(forms);
+
+        // 去重：rowIndex[i]为第i个输入对应的不重复动词序号
+        Map<String,Integer> uniqueIndex = new HashMap<>();
+        int[] rowIndex = new int[verbs.length];
+        String[] unique = new String[verbs.length];
+        int uniqueCount = 0;
+        for(int i=0;i<verbs.length;i++) {
+            Integer index = uniqueIndex.putIfAbsent(verbs[i], uniqueCount);
+            if(index == null) {
+                unique[uniqueCount] = verbs[i];
+                index = uniqueCount++;
+            }
+            rowIndex[i] = index;
+        }
+
+        // 一次性查询字典，经过DictionaryUtils以便计入查询统计和JFR事件
+        String[] types = new String[uniqueCount];
+        for(int i=0;i<uniqueCount;i++) {
+            types[i] = DictionaryUtils.getVerbType(unique[i]);
+        }
+
+        String[][] rows = new String[uniqueCount][];
+        ConjugateTask task = new ConjugateTask(unique, types, columns, rows, 0, uniqueCount, threshold);
+        if(uniqueCount <= threshold || pool.getParallelism() <= 1) {
+            task.compute();
+        }
+        else {
+            pool.invoke(task);
+        }
+
+        // 第一次出现的动词直接使用计算出的行，重复的动词复制一份，调用方修改某一行不影响其他行
+        String[][] result = new String[verbs.length][];
+        boolean[] used = new boolean[uniqueCount];
+        for(int i=0;i<verbs.length;i++) {
+            int index = rowIndex[i];
+            result[i] = used[index] ? rows[index].clone() : rows[index];
+            used[index] = true;
+        }
+        return result;
+    }
+
+    private static VerbForm[] sortedForms(Set<VerbForm> forms) {
+        VerbForm[] columns = new VerbForm[forms.size()];
+        int n = 0;
+        for (VerbForm form : VerbForm.values()) {
+            if(forms.contains(form)) {
+                columns[n++] = form;
+            }
+        }
+        return columns;
+    }
+
+    // 任务只在ForkJoinPool中执行，不会被序列化
+    @SuppressWarnings("serial")
+    private static class ConjugateTask extends RecursiveAction {
+        private final String[] verbs;
+        private final String[] types;
+        private final VerbForm[] columns;
+        private final String[][] rows;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ConjugateTask(String[] verbs, String[] types, VerbForm[] columns, String[][] rows,
+                      int from, int to, int threshold) {
+            this.verbs = verbs;
+            this.types = types;
+            this.columns = columns;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= threshold) {
+                for(int i=from;i<to;i++) {
+                    Verb verb = new Verb(verbs[i], types[i]);
+                    String[] row = new String[columns.length];
+                    for(int j=0;j<columns.length;j++) {
+                        String value = columns[j].apply(verb);
+                        // Verb对没有对应变形的形式（如察する的可能形式）返回提示，结果中记为null
+                        row[j] = NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.equals(value) ? null : value;
+                    }
+                    rows[i] = row;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConjugateTask(verbs, types, columns, rows, from, mid, threshold),
+                    new ConjugateTask(verbs, types, columns, rows, mid, to, threshold));
+        }
+    }
+}
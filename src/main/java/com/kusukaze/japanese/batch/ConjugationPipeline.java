@@ -0,0 +1,297 @@
+package com.kusukaze.japanese.batch;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.RomajiUtils;
+import com.kusukaze.japanese.yougen.VerbForm;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 流式动词变形 - 逐行处理大文件<p>
+ * 用法：ConjugationPipeline [输入路径，- 表示标准输入] [输出路径，- 表示标准输出] [csv|jsonl] [线程数]<p>
+ * 每行一个动词，与VerbChange相同，汉字、假名、罗马字均可，每个查询到的动词输出一条记录，没有查询到时输出动词为空的一条记录。
+ * 读取、变形、写出三个阶段流水线执行：读取线程按块读入若干行后提交给变形线程池，
+ * 各块的结果按提交顺序放入有界队列，由写出线程依次写出，因此内存占用与输入大小无关，输出顺序与输入一致。
+ * 处理进度和速度输出到标准错误。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class ConjugationPipeline {
+    /** 输出格式 */
+    public enum Format { CSV, JSONL }
+
+    // 每块的行数
+    private static final int CHUNK_LINES = 4096;
+    // 进度输出的间隔
+    private static final long PROGRESS_INTERVAL_NANOS = 1_000_000_000L;
+    private static final VerbForm[] FORMS = VerbForm.values();
+    private static final Set<VerbForm> ALL_FORMS = EnumSet.allOf(VerbForm.class);
+    // 块内已在变形线程中，不再并行
+    private static final BatchConjugator CONJUGATOR = new BatchConjugator(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+
+    private ConjugationPipeline() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String input = args.length > 0 ? args[0] : "-";
+        String output = args.length > 1 ? args[1] : "-";
+        Format format = args.length > 2 ? Format.valueOf(args[2].toUpperCase(Locale.ROOT)) : Format.CSV;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        // 先加载字典，避免计入处理速度
+        DictionaryUtils.getVerbDictionary();
+        try (BufferedReader reader = "-".equals(input)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8);
+             Writer writer = "-".equals(output)
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            run(reader, writer, format, threads, System.err);
+        }
+    }
+
+    /**
+     * 逐行读取动词，变形后写出
+     *
+     * @param reader 输入，每行一个动词
+     * @param writer 输出
+     * @param format 输出格式
+     * @param threads 变形线程数
+     * @param progress 进度输出，为null时不输出
+     * @return 处理的行数
+     * @throws IOException 读取或写出失败
+     * @throws InterruptedException 等待时被中断
+     */
+    public static long run(BufferedReader reader, Writer writer, Format format, int threads, PrintStream progress)
+            throws IOException, InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "conjugation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 每个线程最多有两块在等待写出
+        BlockingQueue<Future<Chunk>> queue = new ArrayBlockingQueue<>(Math.max(1, threads) * 2);
+        Thread readerThread = new Thread(() -> read(reader, format, workers, queue), "conjugation-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+
+        long startTime = System.nanoTime();
+        long lastReport = startTime;
+        long lines = 0;
+        long records = 0;
+        try {
+            writeHeader(writer, format);
+            while(true) {
+                Chunk chunk = queue.take().get();
+                if(chunk == null) {
+                    break;
+                }
+                writer.write(chunk.text);
+                lines += chunk.lines;
+                records += chunk.records;
+                long now = System.nanoTime();
+                if(progress != null && now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                    reportProgress(progress, lines, records, now - startTime);
+                    lastReport = now;
+                }
+            }
+            writer.flush();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("变形失败", cause);
+        } finally {
+            readerThread.interrupt();
+            workers.shutdownNow();
+        }
+        if(progress != null) {
+            reportProgress(progress, lines, records, System.nanoTime() - startTime);
+        }
+        return lines;
+    }
+
+    private static void read(BufferedReader reader, Format format, ExecutorService workers,
+                             BlockingQueue<Future<Chunk>> queue) {
+        try {
+            while(true) {
+                List<String> lines = new ArrayList<>(CHUNK_LINES);
+                String line;
+                while(lines.size() < CHUNK_LINES && (line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+                if(lines.isEmpty()) {
+                    break;
+                }
+                queue.put(workers.submit(() -> conjugate(lines, format)));
+            }
+            queue.put(CompletableFuture.completedFuture(null));
+        } catch (InterruptedException e) {
+            // 写出阶段已结束
+        } catch (IOException | RuntimeException e) {
+            CompletableFuture<Chunk> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            try {
+                queue.put(failed);
+            } catch (InterruptedException ignored) {
+                // 写出阶段已结束
+            }
+        }
+    }
+
+    private static Chunk conjugate(List<String> lines, Format format) {
+        // 与VerbChange相同：罗马字转为假名后按写法或读音查询
+        List<List<String>> verbNames = new ArrayList<>(lines.size());
+        List<String> allNames = new ArrayList<>();
+        for (String line : lines) {
+            List<String> names = DictionaryUtils.getVerbNameByKanjiOrKana(RomajiUtils.romaji2Hiragana(line));
+            verbNames.add(names);
+            allNames.addAll(names);
+        }
+        String[][] forms = CONJUGATOR.conjugate(allNames, ALL_FORMS);
+
+        StringBuilder text = new StringBuilder(lines.size() * 128);
+        int row = 0;
+        int records = 0;
+        for(int i=0;i<lines.size();i++) {
+            List<String> names = verbNames.get(i);
+            if(names.isEmpty()) {
+                writeRecord(text, format, lines.get(i), null, null);
+                records++;
+            }
+            for (String name : names) {
+                writeRecord(text, format, lines.get(i), name, forms[row++]);
+                records++;
+            }
+        }
+        return new Chunk(text.toString(), lines.size(), records);
+    }
+
+    private static void writeHeader(Writer writer, Format format) throws IOException {
+        if(format != Format.CSV) {
+            return;
+        }
+        StringBuilder header = new StringBuilder("input,verb");
+        for (VerbForm form : FORMS) {
+            header.append(',').append(form.getDisplayName());
+        }
+        writer.write(header.append('\n').toString());
+    }
+
+    private static void writeRecord(StringBuilder text, Format format, String input, String verb, String[] forms) {
+        if(format == Format.CSV) {
+            appendCsv(text, input);
+            text.append(',');
+            appendCsv(text, verb);
+            for(int j=0;j<FORMS.length;j++) {
+                text.append(',');
+                appendCsv(text, forms == null ? null : forms[j]);
+            }
+        }
+        else {
+            text.append("{\"input\":");
+            appendJson(text, input);
+            text.append(",\"verb\":");
+            appendJson(text, verb);
+            if(forms != null) {
+                text.append(",\"forms\":{");
+                for(int j=0;j<FORMS.length;j++) {
+                    if(j > 0) {
+                        text.append(',');
+                    }
+                    text.append('"').append(FORMS[j].name()).append("\":");
+                    appendJson(text, forms[j]);
+                }
+                text.append('}');
+            }
+            text.append('}');
+        }
+        text.append('\n');
+    }
+
+    // 含逗号、引号或换行的字段加引号，引号写两次；null写为空字段
+    static void appendCsv(StringBuilder text, String value) {
+        if(value == null) {
+            return;
+        }
+        boolean quote = false;
+        for(int i=0;i<value.length() && !quote;i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if(!quote) {
+            text.append(value);
+            return;
+        }
+        text.append('"');
+        for(int i=0;i<value.length();i++) {
+            char c = value.charAt(i);
+            if(c == '"') {
+                text.append('"');
+            }
+            text.append(c);
+        }
+        text.append('"');
+    }
+
+    // 转义引号、反斜杠和控制字符；null写为null
+    static void appendJson(StringBuilder text, String value) {
+        if(value == null) {
+            text.append("null");
+            return;
+        }
+        text.append('"');
+        for(int i=0;i<value.length();i++) {
+            char c = value.charAt(i);
+            if(c == '"' || c == '\\') {
+                text.append('\\').append(c);
+            }
+            else if(c < 0x20) {
+                text.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                text.append(c);
+            }
+        }
+        text.append('"');
+    }
+
+    private static void reportProgress(PrintStream progress, long lines, long records, long nanos) {
+        progress.printf("已处理 %d 行，%d 条记录   耗时：%d ms（%.0f 行/秒）%n",
+                lines, records, nanos / 1_000_000, nanos == 0 ? 0.0 : lines * 1e9 / nanos);
+    }
+
+    private static class Chunk {
+        final String text;
+        final int lines;
+        final int records;
+
+        Chunk(String text, int lines, int records) {
+            this.text = text;
+            this.lines = lines;
+            this.records = records;
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.kusukaze.japanese.utils;
 
 import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionaryLoader;
+import com.kusukaze.japanese.utils.metrics.DictionaryLoadEvent;
+import com.kusukaze.japanese.utils.metrics.DictionaryLookupEvent;
+import com.kusukaze.japanese.utils.metrics.FlightRecorderEvents;
+import com.kusukaze.japanese.utils.metrics.JavaVerbMetrics;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 字典工具类，用于查询单词
@@ -13,69 +26,222 @@ import java.util.*;
  * @since 2024-09-21
  */
 public class DictionaryUtils {
-    public static List<HashMap<String,String>> verbDictionary = new ArrayList<>();
-    // 动词词典加载路径
-    private static final String verbDictionaryPath = "src/main/resources/dictionary/verbDictionary.txt";
+    private static final Logger logger = Logger.getLogger(DictionaryUtils.class.getName());
+
+    // 只读的列式动词字典，自带写法索引，同形异类的动词按字典顺序保留全部类型。加载完成前为null
+    private static volatile VerbDictionary verbDictionary;
+    // 后台加载任务，仅异步加载时使用
+    private static volatile CompletableFuture<VerbDictionary> pendingLoad;
+    private static final Object loadLock = new Object();
+    // 动词词典加载路径，为null时从类路径加载
+    private static volatile Path verbDictionaryPath = VerbDictionaryLoader.configuredPath();
+    private static volatile LoadMode loadMode = VerbDictionaryLoader.configuredMode(LoadMode.LAZY);
 
     static {
-        loadVerbDictionary(true);
+        if(loadMode == LoadMode.EAGER) {
+            loadVerbDictionary(true);
+        }
+        else if(loadMode == LoadMode.ASYNC || loadMode == LoadMode.ASYNC_FAIL_FAST) {
+            synchronized (loadLock) {
+                startAsyncLoad();
+            }
+        }
     }
 
     private DictionaryUtils() {}
 
+    /**
+     * 修改字典的加载路径和加载方式，并按新的方式重新加载<p>
+     * LAZY：立即丢弃已加载的字典，下次查询时从新路径加载<p>
+     * EAGER：立即在当前线程重新加载，成功后替换已加载的字典；失败时丢弃已加载的字典并抛出异常，下次查询时重试<p>
+     * ASYNC、ASYNC_FAIL_FAST：立即开始后台加载，加载完成前查询仍使用已加载的字典，加载成功后整体替换、失败时保留；
+     * 尚未加载过字典时，查询按各自的方式等待或抛出异常
+     *
+     * @param path 字典路径（文本字典或快照），为null时从类路径加载
+     * @param mode 加载方式
+     * @throws IllegalStateException 加载方式为EAGER且加载失败
+     */
+    public static void configure(Path path, LoadMode mode) {
+        synchronized (loadLock) {
+            verbDictionaryPath = path;
+            loadMode = mode;
+            pendingLoad = null;
+            if(mode == LoadMode.LAZY) {
+                verbDictionary = null;
+            }
+            else if(mode == LoadMode.EAGER) {
+                try {
+                    verbDictionary = readVerbDictionary();
+                } catch (IOException | RuntimeException e) {
+                    // 不继续使用旧路径的字典
+                    verbDictionary = null;
+                    throw new IllegalStateException("动词字典加载失败 " + NekoEmojiConstants.FAILURE, e);
+                }
+            }
+            else {
+                // 在锁内发布后台任务，查询不会在发布前自行同步加载
+                startAsyncLoad();
+            }
+        }
+    }
 
     /**
      * 读取并加载动词字典至内存<p>
      * 当字典为空，或启用强制加载时，将进行加载，否则不加载
-     * 一旦加载，将覆盖原有内容
+     * 一旦加载成功，将整体替换原有内容；加载失败时保留原有内容，尚未加载时下次查询会重试
      *
      * @param forceLoad 是否强制加载
      * @return 字典条目数，-1表示加载失败，-2表示未加载
      */
     public static int loadVerbDictionary(boolean forceLoad) {
-        long startTime = System.currentTimeMillis();
-        if(!forceLoad && verbDictionary.size() > 0) {
-            return -2;
+        synchronized (loadLock) {
+            VerbDictionary current = verbDictionary;
+            if(!forceLoad && current != null && current.size() > 0) {
+                return -2;
+            }
+            try {
+                verbDictionary = readVerbDictionary();
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.SEVERE, "字典加载异常 " + NekoEmojiConstants.FAILURE, e);
+                return -1;
+            }
+            return verbDictionary.size();
         }
+    }
+
+    /**
+     * 返回当前已加载的只读动词字典<p>
+     * 若尚未加载，则按加载方式等待加载完成
+     *
+     * @return 动词字典
+     * @throws IllegalStateException 加载方式为ASYNC_FAIL_FAST且字典仍在加载，或加载失败（下次调用会重新加载）
+     */
+    public static VerbDictionary getVerbDictionary() {
+        VerbDictionary dictionary = verbDictionary;
+        // 加载完成后只有一次volatile读，不再加锁
+        return dictionary != null ? dictionary : awaitVerbDictionary();
+    }
+
+    /**
+     * 字典是否已加载完成
+     *
+     * @return 是否已加载
+     */
+    public static boolean isVerbDictionaryLoaded() {
+        return verbDictionary != null;
+    }
+
+    /**
+     * 返回尚未被查询取走的后台加载任务，仅供测试等待后台加载结束
+     *
+     * @return 后台加载任务，没有时返回null
+     */
+    static CompletableFuture<VerbDictionary> getPendingLoad() {
+        return pendingLoad;
+    }
+
+    private static VerbDictionary readVerbDictionary() throws IOException {
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Path path = verbDictionaryPath;
+        logger.fine("正在加载字典喵 " + NekoEmojiConstants.WORKING);
+        String file = path == null ? "classpath:/dictionary/" : path.toString();
+        DictionaryLoadEvent event = FlightRecorderEvents.beginDictionaryLoad();
+        VerbDictionary dictionary;
         try {
-            System.out.println("正在加载字典喵 " + NekoEmojiConstants.WORKING);
-            BufferedReader reader = new BufferedReader(new FileReader(verbDictionaryPath));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] values = line.split(",");
-                if(values.length < 3) {
-                    continue;
+            dictionary = VerbDictionaryLoader.load(path);
+        } catch (IOException | RuntimeException e) {
+            JavaVerbMetrics.recordDictionaryLoadFailure();
+            if(event != null) {
+                event.finish(file, null);
+            }
+            throw e;
+        }
+        JavaVerbMetrics.recordDictionaryLoad(System.nanoTime() - startNanos, dictionary.size());
+        if(event != null) {
+            event.finish(file, dictionary);
+        }
+        long runTime = System.currentTimeMillis() - startTime;
+        logger.info("字典加载成功" + NekoEmojiConstants.SUCCESS + "   条目：" + dictionary.size()
+                + (dictionary.isMapped() ? "（快照）" : "") + "   耗时：" + runTime + " ms");
+        return dictionary;
+    }
+
+    // 调用方持有loadLock
+    private static void startAsyncLoad() {
+        CompletableFuture<VerbDictionary> future = new CompletableFuture<>();
+        pendingLoad = future;
+        Thread loader = new Thread(() -> {
+            VerbDictionary dictionary;
+            try {
+                dictionary = readVerbDictionary();
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.SEVERE, "字典加载异常 " + NekoEmojiConstants.FAILURE, e);
+                // 不安装空字典，保留失败的任务：下一次查询抛出这次的异常，之后的查询重新加载
+                future.completeExceptionally(e);
+                return;
+            }
+            synchronized (loadLock) {
+                if(pendingLoad == future) {
+                    verbDictionary = dictionary;
+                    pendingLoad = null;
                 }
-                HashMap<String,String> verb = new HashMap<>();
-                // 没有汉字，则将读音赋值给汉字
-                if(values[0].isEmpty()) {
-                    values[0] = values[1];
+            }
+            future.complete(dictionary);
+        }, "verb-dictionary-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private static VerbDictionary awaitVerbDictionary() {
+        CompletableFuture<VerbDictionary> future;
+        synchronized (loadLock) {
+            VerbDictionary dictionary = verbDictionary;
+            if(dictionary != null) {
+                return dictionary;
+            }
+            future = pendingLoad;
+            if(future == null) {
+                // LAZY，或之前的加载失败：在当前线程加载，失败时抛出异常
+                try {
+                    verbDictionary = readVerbDictionary();
+                } catch (IOException e) {
+                    throw new IllegalStateException("动词字典加载失败 " + NekoEmojiConstants.FAILURE, e);
                 }
-                // 词尾不为する的サ便动词补上する
-                if(values[2].startsWith("vs") && !values[1].endsWith("する")) {
-                    values[0] += "する";
-                    values[1] += "する";
+                return verbDictionary;
+            }
+            if(loadMode == LoadMode.ASYNC_FAIL_FAST && !future.isDone()) {
+                throw new IllegalStateException("动词字典仍在加载中 " + NekoEmojiConstants.WORKING);
+            }
+        }
+        // ASYNC：在锁外等待后台加载
+        boolean interrupted = false;
+        try {
+            while(true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    // 失败只报告一次，之后的查询在当前线程重新加载
+                    synchronized (loadLock) {
+                        if(pendingLoad == future) {
+                            pendingLoad = null;
+                        }
+                    }
+                    throw new IllegalStateException("动词字典加载失败 " + NekoEmojiConstants.FAILURE, e.getCause());
                 }
-                verb.put("kaki",values[0]);
-                verb.put("yomi",GojuuonzuUtils.katakana2Hiragana(values[1])); // 读音转为平假名
-                verb.put("type",values[2]);
-                verbDictionary.add(verb);
             }
-            reader.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.out.println("字典加载异常 " + NekoEmojiConstants.FAILURE + "\n");
-            return -1;
+        } finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
-        long runTime = System.currentTimeMillis() - startTime;
-        System.out.println("字典加载成功" + NekoEmojiConstants.SUCCESS + "   耗时：" + runTime + " ms\n");
-
-        return verbDictionary.size();
     }
 
     /**
      * 查询动词字典并返回动词类型<p>
-     * 若动词字典为空，则加载后再查询
+     * 同形异类时返回字典中第一个条目的类型
      *
      * @param verb 待查询的动词
      * @return 该动词的类型，若未查找到则返回null
@@ -84,16 +250,62 @@ public class DictionaryUtils {
         if(verb == null) {
             return null;
         }
-        for (HashMap<String, String> stringStringHashMap : verbDictionary) {
-            if(stringStringHashMap.get("kaki").equals(verb)) {
-                return stringStringHashMap.get("type");
+        VerbDictionary dictionary = getVerbDictionary();
+        DictionaryLookupEvent event = FlightRecorderEvents.beginLookup();
+        long start = JavaVerbMetrics.lookupStart();
+        int entry = dictionary.findFirstByKaki(verb);
+        JavaVerbMetrics.recordLookup(start, entry >= 0);
+        if(event != null) {
+            event.finish(verb, entry >= 0);
+        }
+        return entry < 0 ? null : dictionary.getType(entry);
+    }
+
+    /**
+     * 查询动词字典并返回该写法对应的全部类型
+     *
+     * @param verb 待查询的动词
+     * @return 按字典顺序排列的类型列表，若未查找到则返回空列表
+     */
+    public static List<String> getVerbTypes(String verb) {
+        if(verb == null) {
+            return Collections.emptyList();
+        }
+        VerbDictionary dictionary = getVerbDictionary();
+        DictionaryLookupEvent event = FlightRecorderEvents.beginLookup();
+        long start = JavaVerbMetrics.lookupStart();
+        List<String> types = dictionary.getTypesByKaki(verb);
+        JavaVerbMetrics.recordLookup(start, !types.isEmpty());
+        if(event != null) {
+            event.finish(verb, !types.isEmpty());
+        }
+        return types;
+    }
+
+    /**
+     * 逐条扫描字典查询动词类型<p>
+     * 仅作为索引查询的对照实现保留，供测试比对结果
+     *
+     * @param verb 待查询的动词
+     * @return 该动词的类型，若未查找到则返回null
+     */
+    static String getVerbTypeByScan(String verb) {
+        if(verb == null) {
+            return null;
+        }
+        VerbDictionary dictionary = getVerbDictionary();
+        int n = dictionary.size();
+        for(int i=0;i<n;i++) {
+            if(dictionary.getKaki(i).equals(verb)) {
+                return dictionary.getType(i);
             }
         }
         return null;
     }
 
     /**
-     * 根据汉字或假名查询动词
+     * 根据汉字或假名查询动词<p>
+     * 写法（片假名转为平假名后）或读音与关键字相同的动词都会返回，按字典顺序排列
      *
      * @param keyword 待查询的假名(可含汉字，不区分平片假名)
      * @return 查询到的动词列表
@@ -104,18 +316,84 @@ public class DictionaryUtils {
         if(keyword == null) {
             return verbList;
         }
-        for (HashMap<String, String> stringStringHashMap : verbDictionary) {
-            // 优先匹配写法，匹配不到时再匹配读音
-            String currentKaki = GojuuonzuUtils.katakana2Hiragana(stringStringHashMap.get("kaki"));
-            if(currentKaki.equals(keyword)) {
-                verbList.add(stringStringHashMap.get("kaki"));
-                continue;
+        VerbDictionary dictionary = getVerbDictionary();
+        DictionaryLookupEvent event = FlightRecorderEvents.beginLookup();
+        long start = JavaVerbMetrics.lookupStart();
+        // 两个索引的链表都按条目顺序排列，合并后即为逐条扫描的顺序，同时满足两者的条目只保留一次
+        int byKaki = dictionary.findFirstByNormalizedKaki(keyword);
+        int byYomi = dictionary.findFirstByYomi(keyword);
+        while(byKaki >= 0 || byYomi >= 0) {
+            int entry;
+            if(byYomi < 0 || (byKaki >= 0 && byKaki <= byYomi)) {
+                entry = byKaki;
+                if(byYomi == byKaki) {
+                    byYomi = dictionary.findNextByYomi(byYomi);
+                }
+                byKaki = dictionary.findNextByNormalizedKaki(byKaki);
             }
-            String currentYomi = GojuuonzuUtils.katakana2Hiragana(stringStringHashMap.get("yomi"));
-            if(currentYomi.equals(keyword)) {
-                verbList.add(stringStringHashMap.get("kaki"));
+            else {
+                entry = byYomi;
+                byYomi = dictionary.findNextByYomi(byYomi);
             }
+            verbList.add(dictionary.getKaki(entry));
+        }
+        JavaVerbMetrics.recordLookup(start, !verbList.isEmpty());
+        if(event != null) {
+            event.finish(keyword, !verbList.isEmpty());
         }
         return verbList;
     }
+
+    /**
+     * 按前缀查询动词，用于输入时的自动补全<p>
+     * 规范化写法或读音以前缀开头的动词按匹配到的键排序，相同写法只返回一次。结果按需逐个查找
+     *
+     * @param prefix 前缀(可含汉字，不区分平片假名)
+     * @return 动词写法的流，前缀为空时返回空流
+     */
+    public static Stream<String> searchVerbByPrefix(String prefix) {
+        if(prefix == null || prefix.isEmpty()) {
+            return Stream.empty();
+        }
+        VerbDictionary dictionary = getVerbDictionary();
+        PrimitiveIterator.OfInt entries = dictionary.iterateByPrefix(GojuuonzuUtils.katakana2Hiragana(prefix));
+        Set<String> seen = new HashSet<>();
+        Iterator<String> names = new Iterator<String>() {
+            private String nextName;
+
+            @Override
+            public boolean hasNext() {
+                while(nextName == null && entries.hasNext()) {
+                    String kaki = dictionary.getKaki(entries.nextInt());
+                    if(seen.add(kaki)) {
+                        nextName = kaki;
+                    }
+                }
+                return nextName != null;
+            }
+
+            @Override
+            public String next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String name = nextName;
+                nextName = null;
+                return name;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(names,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 按前缀查询动词，返回前limit个结果
+     *
+     * @param prefix 前缀(可含汉字，不区分平片假名)
+     * @param limit 最多返回的结果数
+     * @return 动词写法列表
+     */
+    public static List<String> searchVerbByPrefix(String prefix, int limit) {
+        return searchVerbByPrefix(prefix).limit(limit).collect(Collectors.toList());
+    }
 }
@@ -1,6 +1,6 @@
 package com.kusukaze.japanese.utils;
 
-import java.util.HashMap;
+import java.nio.CharBuffer;
 
 /**
  * 五十音图工具类，用于假名之间的转换
@@ -26,22 +26,65 @@ public class GojuuonzuUtils {
             "ダヂヅデドバビブベボパピプペポッンー";
 
     private static final String noLengthKana = "ぁぃぅぇぉゃゅょァィゥェォャュョ";
-    private static final HashMap<Character,Character> hiraganaKatakanaMap = new HashMap<>();
-    private static final HashMap<Character,Character> katakanaHiraganaMap = new HashMap<>();
+    // 片假名与对应平假名的码位之差。转化表中的假名在两个区块中排列相同，可以直接加减
+    private static final int KANA_OFFSET = 'ア' - 'あ';
+
+    // 字符信息表覆盖平假名、片假名两个区块 U+3040 至 U+30FF，按与TABLE_START的差查表
+    private static final char TABLE_START = '\u3040';
+    private static final int TABLE_SIZE = 0x30FF - TABLE_START + 1;
+    // 字符信息：低4位为分类，其余为在五十音表中的位置（行*5+列，按表中第一次出现的位置）
+    private static final int HIRAGANA = 1;
+    private static final int KATAKANA = 1 << 1;
+    private static final int HAS_LENGTH = 1 << 2;
+    private static final int IN_GRID = 1 << 3;
+    private static final int GRID_SHIFT = 4;
+    private static final short[] charInfo = new short[TABLE_SIZE];
+    // 平假名变为各段后的结果，下标为 (字符 - TABLE_START) * 5 + 段
+    private static final char[] danTable = new char[TABLE_SIZE * 5];
 
     static {
-        int n = hiraganaTable.length();
-        for(int i=0;i<n;i++) {
-            hiraganaKatakanaMap.put(hiraganaTable.charAt(i),katakanaTable.charAt(i));
-            katakanaHiraganaMap.put(katakanaTable.charAt(i),hiraganaTable.charAt(i));
+        setGrid(hiraganaTable, HIRAGANA);
+        setGrid(katakanaTable, KATAKANA);
+        charInfo['ー' - TABLE_START] |= KATAKANA;
+        for(int i=0;i<hasLengthKana.length();i++) {
+            charInfo[hasLengthKana.charAt(i) - TABLE_START] |= HAS_LENGTH;
+        }
+        for(int i=0;i<TABLE_SIZE;i++) {
+            char ch = (char)(TABLE_START + i);
+            for(int line=0;line<5;line++) {
+                danTable[i*5+line] = ch;
+                if((charInfo[i] & HIRAGANA) == 0) {
+                    continue;
+                }
+                // は行假名将转化为あ行，若结果为あ，则转化为わ
+                int row = (charInfo[i] >> GRID_SHIFT) / 5;
+                if(row == 5) {
+                    row = 0;
+                }
+                danTable[i*5+line] = row == 0 && line == 0 ? 'わ' : hiraganaTable.charAt(row*5+line);
+            }
         }
     }
 
     private GojuuonzuUtils() {}
 
+    private static void setGrid(String table, int kanaClass) {
+        for(int i=0;i<table.length();i++) {
+            int index = table.charAt(i) - TABLE_START;
+            if((charInfo[index] & IN_GRID) == 0) {
+                charInfo[index] = (short)(kanaClass | IN_GRID | (i << GRID_SHIFT));
+            }
+        }
+    }
+
+    private static int info(char ch) {
+        int index = ch - TABLE_START;
+        return index >= 0 && index < TABLE_SIZE ? charInfo[index] : 0;
+    }
+
     /**
      * 将片假名转化为平假名<p>
-     * 对于非假名字符，维持原状
+     * 对于非假名字符，维持原状；没有需要转化的字符时直接返回原字符串
      *
      * @param katakana 待转化的片假名
      * @return 转化后的平假名
@@ -51,23 +94,22 @@ public class GojuuonzuUtils {
         if(katakana == null) {
             return null;
         }
-        StringBuilder ans = new StringBuilder();
         int n = katakana.length();
-        for(int i=0;i<n;i++) {
-            Character kata = katakanaHiraganaMap.get(katakana.charAt(i));
-            if(kata != null) {
-                ans.append(kata);
-            }
-            else {
-                ans.append(katakana.charAt(i));
-            }
+        int first = 0;
+        while(first < n && !isConvertibleKatakana(katakana.charAt(first))) {
+            first++;
         }
-        return String.valueOf(ans);
+        if(first == n) {
+            return katakana;
+        }
+        char[] chars = katakana.toCharArray();
+        katakana2Hiragana(chars, first, n);
+        return new String(chars);
     }
 
     /**
      * 将平假名转化为片假名<p>
-     * 对于非假名字符，维持原状
+     * 对于非假名字符，维持原状；没有需要转化的字符时直接返回原字符串
      *
      * @param hiragana 待转化的片假名
      * @return 转化后的平假名
@@ -77,18 +119,121 @@ public class GojuuonzuUtils {
         if(hiragana == null) {
             return null;
         }
-        StringBuilder ans = new StringBuilder();
-        for(int i=0;i<hiragana.length();i++)
-        {
-            Character hira = hiraganaKatakanaMap.get(hiragana.charAt(i));
-            if(hira != null) {
-                ans.append(hira);
+        int n = hiragana.length();
+        int first = 0;
+        while(first < n && !isConvertibleHiragana(hiragana.charAt(first))) {
+            first++;
+        }
+        if(first == n) {
+            return hiragana;
+        }
+        char[] chars = hiragana.toCharArray();
+        hiragana2Katakana(chars, first, n);
+        return new String(chars);
+    }
+
+    /**
+     * 将单个片假名转化为平假名，规则同{@link #katakana2Hiragana(String)}
+     *
+     * @param katakana 待转化的片假名
+     * @return 转化后的平假名，无需转化时返回原字符
+     */
+    public static char katakana2Hiragana(char katakana) {
+        return isConvertibleKatakana(katakana) ? (char)(katakana - KANA_OFFSET) : katakana;
+    }
+
+    /**
+     * 将字符数组[from, to)中的片假名原地转化为平假名，规则同{@link #katakana2Hiragana(String)}
+     *
+     * @param chars 字符数组
+     * @param from 起始位置（含）
+     * @param to 结束位置（不含）
+     * @return 是否有字符被转化
+     */
+    public static boolean katakana2Hiragana(char[] chars, int from, int to) {
+        boolean changed = false;
+        for(int i=from;i<to;i++) {
+            char ch = chars[i];
+            if(isConvertibleKatakana(ch)) {
+                chars[i] = (char)(ch - KANA_OFFSET);
+                changed = true;
             }
-            else {
-                ans.append(hiragana.charAt(i));
+        }
+        return changed;
+    }
+
+    /**
+     * 将字符数组[from, to)中的平假名原地转化为片假名，规则同{@link #hiragana2Katakana(String)}
+     *
+     * @param chars 字符数组
+     * @param from 起始位置（含）
+     * @param to 结束位置（不含）
+     * @return 是否有字符被转化
+     */
+    public static boolean hiragana2Katakana(char[] chars, int from, int to) {
+        boolean changed = false;
+        for(int i=from;i<to;i++) {
+            char ch = chars[i];
+            if(isConvertibleHiragana(ch)) {
+                chars[i] = (char)(ch + KANA_OFFSET);
+                changed = true;
             }
         }
-        return String.valueOf(ans);
+        return changed;
+    }
+
+    /**
+     * 将缓冲区中剩余部分（position至limit）的片假名原地转化为平假名，不改变position
+     *
+     * @param buffer 可写的字符缓冲区
+     * @return 是否有字符被转化
+     */
+    public static boolean katakana2Hiragana(CharBuffer buffer) {
+        if(buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return katakana2Hiragana(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+        }
+        boolean changed = false;
+        for(int i=buffer.position();i<buffer.limit();i++) {
+            char ch = buffer.get(i);
+            if(isConvertibleKatakana(ch)) {
+                buffer.put(i, (char)(ch - KANA_OFFSET));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 将缓冲区中剩余部分（position至limit）的平假名原地转化为片假名，不改变position
+     *
+     * @param buffer 可写的字符缓冲区
+     * @return 是否有字符被转化
+     */
+    public static boolean hiragana2Katakana(CharBuffer buffer) {
+        if(buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return hiragana2Katakana(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+        }
+        boolean changed = false;
+        for(int i=buffer.position();i<buffer.limit();i++) {
+            char ch = buffer.get(i);
+            if(isConvertibleHiragana(ch)) {
+                buffer.put(i, (char)(ch + KANA_OFFSET));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // 转化表中的片假名：ァ(U+30A1)至ン(U+30F3)，ヮ除外
+    private static boolean isConvertibleKatakana(char ch) {
+        return ch >= 'ァ' && ch <= 'ン' && ch != 'ヮ';
+    }
+
+    // 转化表中的平假名：ぁ(U+3041)至ん(U+3093)，ゎ除外
+    private static boolean isConvertibleHiragana(char ch) {
+        return ch >= 'ぁ' && ch <= 'ん' && ch != 'ゎ';
     }
 
     /**
@@ -104,23 +249,29 @@ public class GojuuonzuUtils {
      */
     public static String toSpecificDan(char hiragana,char dan)
     {
-        String dans = "あいうえお";
-        int pos = hiraganaTable.indexOf(hiragana);
-        if(pos < 0) {
-            return String.valueOf(hiragana);
-        }
-        int row = pos / 5;
-        int line = dans.indexOf(dan);
-        if(line < 0) {
-            return String.valueOf(hiragana);
-        }
-        if(row == 5) {
-            row = 0;
-        }
-        if(row == 0 && line == 0) {
-            return "わ";
+        return String.valueOf(toSpecificDanChar(hiragana,dan));
+    }
+
+    /**
+     * 将平假名转换为指定段上的假名，规则同{@link #toSpecificDan(char, char)}，但直接返回字符，不分配字符串
+     *
+     * @param hiragana 待转化的平假名
+     * @param dan 需要转化为哪一段，取值范围为「あいうえお」
+     * @return 转化后的平假名
+     */
+    public static char toSpecificDanChar(char hiragana,char dan)
+    {
+        int line;
+        switch (dan) {
+            case 'あ': line = 0; break;
+            case 'い': line = 1; break;
+            case 'う': line = 2; break;
+            case 'え': line = 3; break;
+            case 'お': line = 4; break;
+            default: return hiragana;
         }
-        return String.valueOf(hiraganaTable.charAt(row*5+line));
+        int index = hiragana - TABLE_START;
+        return index >= 0 && index < TABLE_SIZE ? danTable[index*5+line] : hiragana;
     }
 
     /**
@@ -130,7 +281,7 @@ public class GojuuonzuUtils {
      * @return 判断结果
      */
     public static boolean isHiragana(char ch) {
-        return hiraganaTable.indexOf(ch) != -1;
+        return (info(ch) & HIRAGANA) != 0;
     }
 
     /**
@@ -140,7 +291,7 @@ public class GojuuonzuUtils {
      * @return 判断结果
      */
     public static boolean isKatagana(char ch) {
-        return katakanaTable.indexOf(ch) != -1 || ch == 'ー';
+        return (info(ch) & KATAKANA) != 0;
     }
 
     /**
@@ -150,7 +301,7 @@ public class GojuuonzuUtils {
      * @return 判断结果
      */
     public static boolean isKana(char ch) {
-        return isHiragana(ch) || isKatagana(ch);
+        return (info(ch) & (HIRAGANA | KATAKANA)) != 0;
     }
 
     /**
@@ -164,7 +315,7 @@ public class GojuuonzuUtils {
         int ans = 0;
         for(int i=0;i<n;i++) {
             char ch = kana.charAt(i);
-            if(hasLengthKana.indexOf(ch) != -1) {
+            if((info(ch) & HAS_LENGTH) != 0) {
                 ans++;
             }
         }
@@ -10,20 +10,23 @@ import com.kusukaze.japanese.utils.constants.RomajiMapUtils;
 public class RomajiUtils {
     private RomajiUtils() {}
     /**
-     * 预处理，删除首尾空格，转成小写，将全角字母和空格转为半角
+     * 预处理，删除首尾空格，转成小写，将全角字母和空格转为半角<p>
+     * 逐字符用Character.toLowerCase转成小写：与默认语言环境无关，也不会像String.toLowerCase那样改变长度
+     * （如「İ」转为两个字符）或按上下文变化（如词尾的「Σ」），流式转换器使用相同的规则
      * @param romaji 待预处理的罗马字
      * @return 预处理后的罗马字
      */
     private static String pretreatRomaji(String romaji) {
-        romaji = romaji.trim().toLowerCase();
-        char[] chars = romaji.toCharArray();
+        char[] chars = romaji.trim().toCharArray();
         for(int i = 0; i < chars.length; i++) {
             // 全角空格转半角
             if(chars[i] == 12288){
                 chars[i] = (char)32;
+                continue;
             }
+            chars[i] = Character.toLowerCase(chars[i]);
             // 全角字母转半角
-            else if(chars[i] > 65280 && chars[i] < 65375) {
+            if(chars[i] > 65280 && chars[i] < 65375) {
                 chars[i] = (char)(chars[i] - 65248);
             }
         }
@@ -31,91 +34,73 @@ public class RomajiUtils {
     }
 
     /**
-     * 将已预处理过的罗马字转化为平假名
+     * 将已预处理过的罗马字转化为平假名<p>
+     * 从左到右一次扫描，在RomajiMapUtils的罗马字字典树中逐个字母前进，不截取子串
      * @param romaji 已经过预处理的罗马字
      * @return 转化后的假名
      */
     private static String pretreatedRomaji2Hiragana(String romaji) {
-        int i,j,k;
         int n = romaji.length();
-        StringBuilder ans = new StringBuilder();
-        i = 0;
+        StringBuilder ans = new StringBuilder(n);
+        int i = 0;
         while(i < n) {
             char ch = romaji.charAt(i);
 
-            // 处理字母
-            if(Character.isLetter(ch)) {
-                boolean chIsVowel = ("aeiou".indexOf(ch) > -1);
-                // 元音字母，转化当前的一个字母即可。下一轮跳转至下一字母。
-                if(chIsVowel) {
-                    ans.append(RomajiMapUtils.getHiraganaByRomaji(String.valueOf(ch)));
-                    i++;
-                    continue;
+            // 处理非字母符号，其中单引号不保留，减号转化为长音符号，其余原样保留。
+            if(!Character.isLetter(ch)) {
+                if(ch == '-') {
+                    ans.append('ー');
                 }
-                // 辅音字母，重复两次且不为n，将当前字母转化为促音。tc也视为有效促音。下一轮跳转至下一字母。
-                if(i + 1 < n && ch != 'n' && (ch == romaji.charAt(i+1) || romaji.startsWith("tc", i))) {
-                    ans.append("っ");
-                    i++;
-                    continue;
+                else if(ch != '\'') {
+                    ans.append(ch);
                 }
-                // 辅音字母n，从当前字母开始最多扩展至3个字母进行匹配，且顺序从长到短。下一轮跳过匹配成功的字母。
-                // 若匹配失败，则保留当前字母。下一轮跳转至下一字母。
-                if(ch == 'n') {
-                    boolean success = false;
-                    k = Math.min(i+2,n-1);
+                i++;
+                continue;
+            }
+            // 元音字母，转化当前的一个字母即可。下一轮跳转至下一字母。
+            if(ch == 'a' || ch == 'e' || ch == 'i' || ch == 'o' || ch == 'u') {
+                ans.append(RomajiMapUtils.getHiraganaByState(
+                        RomajiMapUtils.nextRomajiState(RomajiMapUtils.romajiInitialState(), ch)));
+                i++;
+                continue;
+            }
+            // 辅音字母，重复两次且不为n，将当前字母转化为促音。tc也视为有效促音。下一轮跳转至下一字母。
+            if(i + 1 < n && ch != 'n' && (ch == romaji.charAt(i+1) || (ch == 't' && romaji.charAt(i+1) == 'c'))) {
+                ans.append('っ');
+                i++;
+                continue;
+            }
 
-                    for(j=k;j>=i;j--) {
-                        char chCurr = romaji.charAt(j);
-                        if(!Character.isLetter(chCurr)) {
-                            continue;
-                        }
-                        String hira = RomajiMapUtils.getHiraganaByRomaji(romaji.substring(i,j+1));
-                        if(hira != null) {
-                            success = true;
-                            ans.append(hira);
-                            i = j + 1;
-                            break;
-                        }
-                    }
-                    if(!success) {
-                        ans.append(romaji.charAt(i));
-                        i++;
-                    }
-                    continue;
+            // 辅音字母n，从当前字母开始最多读入3个字母，取最长的匹配；
+            // 其余辅音字母（已排除促音和拨音），最多读入5个字母，取最短的至少2个字母的匹配，遇到非字母时停止。
+            // 若匹配失败，则保留当前字母。下一轮跳转至下一字母。
+            boolean longest = ch == 'n';
+            int maxLength = longest ? 3 : 5;
+            int state = RomajiMapUtils.nextRomajiState(RomajiMapUtils.romajiInitialState(), ch);
+            String hira = longest && state >= 0 ? RomajiMapUtils.getHiraganaByState(state) : null;
+            int matched = hira == null ? 0 : 1;
+            for(int j=i+1;j<i+maxLength && j<n && state >= 0;j++) {
+                char chCurr = romaji.charAt(j);
+                if(!Character.isLetter(chCurr)) {
+                    break;
                 }
-
-                // 辅音字母（已排除促音和拨音），从当前字母开始最多扩展至4个字母进行匹配，且顺序从短到长。下一轮跳过匹配成功的字母。
-                // 若匹配失败，则保留当前字母。下一轮跳转至下一字母。
-                boolean success = false;
-                for(j=i+1;j<i+5 && j<n;j++) {
-                    char chCurr = romaji.charAt(j);
-                    if(!Character.isLetter(chCurr)) {
+                state = RomajiMapUtils.nextRomajiState(state, chCurr);
+                String curr = state < 0 ? null : RomajiMapUtils.getHiraganaByState(state);
+                if(curr != null) {
+                    hira = curr;
+                    matched = j - i + 1;
+                    if(!longest) {
                         break;
                     }
-                    String hira = RomajiMapUtils.getHiraganaByRomaji(romaji.substring(i,j+1));
-                    if(hira != null) {
-                        success = true;
-                        ans.append(hira);
-                        i = j + 1;
-                        break;
-                    }
-                }
-                if(!success) {
-                    ans.append(romaji.charAt(i));
-                    i++;
                 }
             }
-            // 处理非字母符号，其中单引号不保留，减号转化为长音符号，其余原样保留。
-            // 一次性处理多个符号，直到遇到字母，以减少字符串拼接次数。下一轮跳转至字母。
+            if(hira == null) {
+                ans.append(ch);
+                i++;
+            }
             else {
-                for(j=i+1;j<n;j++) {
-                    if(Character.isLetter(romaji.charAt(j))) {
-                        break;
-                    }
-                }
-                ans.append(romaji.substring(i,j)
-                        .replace("'","").replace("-","ー"));
-                i = j;
+                ans.append(hira);
+                i += matched;
             }
         }
         return String.valueOf(ans);
@@ -137,68 +122,100 @@ public class RomajiUtils {
     }
 
     /**
-     * 将平假名转化为罗马字
+     * 将平假名转化为罗马字<p>
+     * 一次扫描完成：按字符查表，拗音优先匹配两个假名；促音っ暂缓输出，读到下一个假名的转化结果后再决定：
+     * 后面为c时写作t，为其他非元音的字母时双写该字母，否则写作xtu。
+     * 与原先先转化、再处理促音的做法保持一致，仅检查位于中间结果前 n-1 个字符内的促音（n为输入长度），
+     * 因此当っ之前的转化结果比假名长时，靠后的促音仍写作xtu
      * @param hiragana 待转化的平假名
      * @return 转化后的罗马字
      */
     private static String hiragana2Romaji(String hiragana) {
-        StringBuilder ans = new StringBuilder();
         int n = hiragana.length();
+        StringBuilder ans = new StringBuilder(n * 2);
+        // position为中间结果（促音和长音符号尚未替换时）的长度，last为中间结果的最后一个字符
+        int position = 0;
+        char last = 0;
+        // 尚未输出的促音在中间结果中的位置，没有时为-1
+        int sokuon = -1;
         int i = 0;
         while(i < n) {
-            int j;
-            // 贪心匹配，最多匹配2个字符（拗音）
-            for(j=1;j>=0;j--) {
-                if(i + j >= n) {
-                    continue;
-                }
-                // 促音先不转化
-                if("っ".equals(hiragana.substring(i,i+j+1))) {
-                    j = -1; // 标记为匹配失败
-                    break;
+            char ch = hiragana.charAt(i);
+            // 贪心匹配，最多匹配2个字符（拗音）；促音先不转化
+            String currRomaji = i + 1 < n ? RomajiMapUtils.getRomajiByHiragana(ch, hiragana.charAt(i+1)) : null;
+            int matched = 2;
+            if(currRomaji == null && ch != 'っ') {
+                currRomaji = RomajiMapUtils.getRomajiByHiragana(ch);
+                matched = 1;
+            }
+            // 匹配失败，保留原字符
+            if(currRomaji == null) {
+                if(sokuon >= 0) {
+                    appendSokuon(ans, sokuon, n, ch);
                 }
-
-                String currRomaji = RomajiMapUtils.getRomajiByHiragana(hiragana.substring(i,i+j+1));
-
-                // 未匹配到该假名
-                if(currRomaji == null) {
-                    continue;
+                if(ch == 'っ') {
+                    sokuon = position;
                 }
-
-                if(ans.length() > 0 && "n".indexOf(ans.charAt(ans.length()-1)) != -1
-                        && "aeiouy".indexOf(currRomaji.charAt(0)) != -1) { // n+元音或y，加分隔符
-                    currRomaji = "'" + currRomaji;
+                else {
+                    sokuon = -1;
+                    ans.append(ch == 'ー' ? '-' : ch);
                 }
-                ans.append(currRomaji);
-                i += (j + 1);
-                break;
-            }
-            // 匹配失败
-            if(j < 0) {
-                ans.append(hiragana.charAt(i));
+                position++;
+                last = ch;
                 i++;
+                continue;
+            }
+            // n+元音或y，加分隔符
+            boolean apostrophe = last == 'n' && "aeiouy".indexOf(currRomaji.charAt(0)) != -1;
+            if(sokuon >= 0) {
+                appendSokuon(ans, sokuon, n, apostrophe ? '\'' : currRomaji.charAt(0));
+                sokuon = -1;
             }
+            if(apostrophe) {
+                ans.append('\'');
+                position++;
+            }
+            ans.append(currRomaji);
+            position += currRomaji.length();
+            last = currRomaji.charAt(currRomaji.length() - 1);
+            i += matched;
+        }
+        if(sokuon >= 0) {
+            ans.append("xtu");
         }
+        return String.valueOf(ans);
+    }
 
-        // 处理促音
-        for(i=0;i<n-1;i++) {
-            char currChar = ans.charAt(i);
-            char nextChar = ans.charAt(i+1);
-            // 促音，添加辅音
-            if(currChar == 'っ') {
-                // 若后面的字母为c，则用t表示促音
-                if(nextChar == 'c') {
-                    ans.setCharAt(i,'t');
+    /**
+     * 输出促音
+     * @param ans 输出
+     * @param position 促音在中间结果中的位置
+     * @param n 输入的长度，只处理位于前 n-1 个字符内的促音
+     * @param nextChar 中间结果中促音的下一个字符
+     */
+    private static void appendSokuon(StringBuilder ans, int position, int n, char nextChar) {
+        if(position < n - 1) {
+            // 若后面的字母为c，则用t表示促音
+            if(nextChar == 'c') {
+                ans.append('t');
+                return;
+            }
+            // 辅音，双写后面的字母
+            if(Character.isLetter(nextChar) && "aeiou".indexOf(nextChar) == -1) {
+                if(nextChar == 'ー') {
+                    ans.append('-');
                 }
-                // 辅音，双写后面的字母
-                else if(Character.isLetter(nextChar) && "aeiou".indexOf(nextChar) == -1) {
-                    ans.setCharAt(i,nextChar);
+                else if(nextChar == 'っ') {
+                    ans.append("xtu");
                 }
-                // 后面的字母为元音字母或符号，则保留xtu
+                else {
+                    ans.append(nextChar);
+                }
+                return;
             }
         }
-
-        return String.valueOf(ans).replace("っ","xtu").replace("ー","-");
+        // 后面的字母为元音字母或符号，则保留xtu
+        ans.append("xtu");
     }
 
     /**
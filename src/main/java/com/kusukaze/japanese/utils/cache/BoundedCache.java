@@ -0,0 +1,214 @@
+package com.kusukaze.japanese.utils.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 有容量上限的并发缓存<p>
+ * 查询直接读取ConcurrentHashMap，命中时只设置访问标记，不加锁。
+ * 条目按键的哈希分到若干段，每段是一个固定大小的环，写满后按CLOCK算法淘汰：
+ * 指针跳过最近被访问过的条目（同时清除其标记），淘汰第一个未被访问的条目。
+ * 未命中时加载函数在锁外执行，并发未命中同一个键时可能加载多次，但只保留一个结果，因此加载函数应无副作用。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class BoundedCache<K,V> {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final BiFunction LOAD_BY_KEY = (key, loader) -> ((Function) loader).apply(key);
+
+    private final ConcurrentHashMap<K,Node<K,V>> map;
+    private final Segment<K,V>[] segments;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity 最多缓存的条目数
+     */
+    public BoundedCache(int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("缓存容量必须为正数：" + capacity);
+        }
+        // 段数为2的幂，每段至少16个条目
+        int segmentCount = 1;
+        int maxSegments = Math.min(Runtime.getRuntime().availableProcessors() * 4, 64);
+        while(segmentCount * 2 <= maxSegments && capacity / (segmentCount * 2) >= 16) {
+            segmentCount *= 2;
+        }
+        this.capacity = capacity;
+        this.map = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.segments = newSegments(segmentCount);
+        for(int i=0;i<segmentCount;i++) {
+            // 余数分给前面的段，总容量恰好为capacity
+            segments[i] = new Segment<>(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K,V> Segment<K,V>[] newSegments(int length) {
+        return (Segment<K,V>[]) new Segment<?,?>[length];
+    }
+
+    /**
+     * 查询缓存，未命中时加载并放入缓存
+     *
+     * @param key 键，不能为null
+     * @param loader 加载函数，返回值不能为null
+     * @return 缓存或加载的值
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return (V) get(key, (Object) loader, LOAD_BY_KEY);
+    }
+
+    /**
+     * 查询缓存，未命中时以loader(键, 参数)加载并放入缓存<p>
+     * 加载所需的对象通过参数传入，调用方可以使用不捕获变量的静态函数，命中时不产生额外对象
+     *
+     * @param key 键，不能为null
+     * @param argument 传给加载函数的参数
+     * @param loader 加载函数，返回值不能为null
+     * @return 缓存或加载的值
+     */
+    public <A> V get(K key, A argument, BiFunction<? super K, ? super A, ? extends V> loader) {
+        Node<K,V> node = map.get(key);
+        if(node != null) {
+            // 已有标记时不再写入，避免多线程命中同一条目时争用缓存行
+            if(!node.referenced) {
+                node.referenced = true;
+            }
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        V value = loader.apply(key, argument);
+        if(value == null) {
+            throw new NullPointerException("缓存的值不能为null");
+        }
+        Segment<K,V> segment = segments[spread(key.hashCode()) & (segments.length - 1)];
+        synchronized (segment) {
+            Node<K,V> existing = map.get(key);
+            if(existing != null) {
+                return existing.value;
+            }
+            Node<K,V> added = new Node<>(key, value);
+            Node<K,V> evicted = segment.add(added);
+            if(evicted != null) {
+                map.remove(evicted.key, evicted);
+                evictions.increment();
+            }
+            map.put(key, added);
+        }
+        return value;
+    }
+
+    /**
+     * 查询缓存，不加载
+     *
+     * @param key 键
+     * @return 缓存的值，未缓存时返回null
+     */
+    public V getIfPresent(K key) {
+        Node<K,V> node = map.get(key);
+        if(node == null) {
+            return null;
+        }
+        if(!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * 清空缓存，统计数据保留
+     */
+    public void clear() {
+        for (Segment<K,V> segment : segments) {
+            synchronized (segment) {
+                for(int i=0;i<segment.size;i++) {
+                    map.remove(segment.ring[i].key, segment.ring[i]);
+                    segment.ring[i] = null;
+                }
+                segment.size = 0;
+                segment.hand = 0;
+            }
+        }
+    }
+
+    /**
+     * 返回当前缓存的条目数
+     * @return 条目数
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * 返回缓存容量
+     * @return 最多缓存的条目数
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 返回命中、未命中、淘汰次数的快照
+     * @return 统计数据
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), map.size(), capacity);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Node<K,V> {
+        final K key;
+        final V value;
+        // 最近是否被访问过，CLOCK指针经过时清除
+        volatile boolean referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Segment<K,V> {
+        final Node<K,V>[] ring;
+        int size;
+        int hand;
+
+        Segment(int capacity) {
+            ring = newRing(Math.max(1, capacity));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K,V> Node<K,V>[] newRing(int length) {
+            return (Node<K,V>[]) new Node<?,?>[length];
+        }
+
+        /**
+         * 放入新条目，段已满时按CLOCK算法淘汰一个条目
+         * @return 被淘汰的条目，没有淘汰时返回null
+         */
+        Node<K,V> add(Node<K,V> node) {
+            if(size < ring.length) {
+                ring[size++] = node;
+                return null;
+            }
+            while(ring[hand].referenced) {
+                ring[hand].referenced = false;
+                hand = (hand + 1) % ring.length;
+            }
+            Node<K,V> evicted = ring[hand];
+            ring[hand] = node;
+            hand = (hand + 1) % ring.length;
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kusukaze.japanese.utils.cache;
+
+/**
+ * 缓存统计数据的快照
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int capacity;
+
+    public CacheStats(long hits, long misses, long evictions, int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 返回命中率
+     * @return 命中次数 / 查询次数，没有查询时为0
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("命中 %d，未命中 %d，淘汰 %d，命中率 %.1f%%，条目 %d/%d",
+                hits, misses, evictions, getHitRate() * 100, size, capacity);
+    }
+}
@@ -14,5 +14,6 @@ public final class NekoEmojiConstants {
     public static final String EXIT = "(=^-ω-^=)";           // 退出
 
     public static final String VERB_CANNOT_CHANGE = "不会变喵";      // 动词未知变形
+    public static final String VERB_CANNOT_CHANGE_RESULT = VERB_CANNOT_CHANGE + " " + UNKNOWN;  // 动词无法变形时的变形结果
     public static final String PROGRAM_ENDED = "我先去睡觉了喵";      // 程序执行完毕
 }
@@ -1,6 +1,8 @@
 package com.kusukaze.japanese.utils.constants;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 罗马字映射工具类，用于存储假名和罗马字的映射关系
@@ -12,8 +14,107 @@ public class RomajiMapUtils {
     private static final HashMap<String,String> hiraganaRomajiTable = new HashMap<>();
     private static final HashMap<String,String> romajiHiraganaTable = new HashMap<>();
 
+    // 罗马字→平假名的字典树，只含小写字母a-z。状态0为根，trieNext[状态*26+字母]为下一状态，-1表示没有
+    private static final int TRIE_ROOT = 0;
+    private static final int[] trieNext;
+    private static final String[] trieHiragana;
+
+    // 平假名→罗马字的按字符查找表，覆盖U+3040至U+30FF，下标为与KANA_START的差
+    private static final char KANA_START = '\u3040';
+    private static final int KANA_SIZE = 0x30FF - KANA_START + 1;
+    private static final String[] singleKanaRomaji = new String[KANA_SIZE];
+    // 两个假名（拗音等）的第二个假名只有少数几种，pairSecondIndex为其编号，没有时为-1
+    private static final byte[] pairSecondIndex = new byte[KANA_SIZE];
+    private static final int pairSecondCount;
+    private static final String[] pairKanaRomaji;
+
     static {
         loadTable();
+        // 对照表中的假名都在U+3040至U+30FF之内
+        Arrays.fill(pairSecondIndex, (byte) -1);
+        int secondCount = 0;
+        for (String hiragana : hiraganaRomajiTable.keySet()) {
+            if(hiragana.length() == 2 && pairSecondIndex[hiragana.charAt(1) - KANA_START] < 0) {
+                pairSecondIndex[hiragana.charAt(1) - KANA_START] = (byte) secondCount++;
+            }
+        }
+        pairSecondCount = secondCount;
+        pairKanaRomaji = new String[KANA_SIZE * pairSecondCount];
+        for (Map.Entry<String, String> entry : hiraganaRomajiTable.entrySet()) {
+            String hiragana = entry.getKey();
+            int first = hiragana.charAt(0) - KANA_START;
+            if(hiragana.length() == 1) {
+                singleKanaRomaji[first] = entry.getValue();
+            }
+            else {
+                pairKanaRomaji[first * pairSecondCount + pairSecondIndex[hiragana.charAt(1) - KANA_START]] =
+                        entry.getValue();
+            }
+        }
+        // 状态数不超过所有罗马字的字母总数+1
+        int maxStates = 1;
+        for (String romaji : romajiHiraganaTable.keySet()) {
+            maxStates += romaji.length();
+        }
+        trieNext = new int[maxStates * 26];
+        trieHiragana = new String[maxStates];
+        buildTrie();
+    }
+
+    /**
+     * 返回单个平假名对应的罗马字，与{@link #getRomajiByHiragana(String)}相同，但不需要构造字符串
+     * @param hiragana 待转化的平假名
+     * @return 转化后的罗马字，没有对应时返回null
+     */
+    public static String getRomajiByHiragana(char hiragana) {
+        int index = hiragana - KANA_START;
+        return index >= 0 && index < KANA_SIZE ? singleKanaRomaji[index] : null;
+    }
+
+    /**
+     * 返回两个平假名（拗音等）对应的罗马字，与{@link #getRomajiByHiragana(String)}相同，但不需要构造字符串
+     * @param first 第一个平假名
+     * @param second 第二个平假名
+     * @return 转化后的罗马字，没有对应时返回null
+     */
+    public static String getRomajiByHiragana(char first, char second) {
+        int index = first - KANA_START;
+        int secondOffset = second - KANA_START;
+        if(index < 0 || index >= KANA_SIZE || secondOffset < 0 || secondOffset >= KANA_SIZE
+                || pairSecondIndex[secondOffset] < 0) {
+            return null;
+        }
+        return pairKanaRomaji[index * pairSecondCount + pairSecondIndex[secondOffset]];
+    }
+
+    /**
+     * 返回罗马字字典树的初始状态
+     * @return 初始状态
+     */
+    public static int romajiInitialState() {
+        return TRIE_ROOT;
+    }
+
+    /**
+     * 在罗马字字典树中读入一个字母
+     * @param state 当前状态
+     * @param ch 读入的字母
+     * @return 下一状态；没有以当前前缀加ch开头的罗马字时返回-1
+     */
+    public static int nextRomajiState(int state, char ch) {
+        if(ch < 'a' || ch > 'z') {
+            return -1;
+        }
+        return trieNext[state * 26 + (ch - 'a')];
+    }
+
+    /**
+     * 返回到达此状态时读入的罗马字对应的平假名
+     * @param state 状态
+     * @return 平假名；读入的字母不是完整的罗马字时返回null
+     */
+    public static String getHiraganaByState(int state) {
+        return trieHiragana[state];
     }
 
     /**
@@ -96,4 +197,24 @@ public class RomajiMapUtils {
         }
     }
 
+    /**
+     * 将罗马字→平假名的对照表编译为字典树
+     */
+    private static void buildTrie() {
+        Arrays.fill(trieNext, -1);
+        int size = 1;
+        for (Map.Entry<String, String> entry : romajiHiraganaTable.entrySet()) {
+            String romaji = entry.getKey();
+            int state = TRIE_ROOT;
+            for(int i=0;i<romaji.length();i++) {
+                int index = state * 26 + (romaji.charAt(i) - 'a');
+                if(trieNext[index] < 0) {
+                    trieNext[index] = size++;
+                }
+                state = trieNext[index];
+            }
+            trieHiragana[state] = entry.getValue();
+        }
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+/**
+ * 动词字典的加载方式
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public enum LoadMode {
+    /** 类初始化时同步加载 */
+    EAGER,
+    /** 第一次查询时同步加载 */
+    LAZY,
+    /** 类初始化时在后台线程加载，加载完成前的查询将等待加载结束 */
+    ASYNC,
+    /** 类初始化时在后台线程加载，加载完成前的查询直接抛出IllegalStateException */
+    ASYNC_FAIL_FAST
+}
@@ -0,0 +1,605 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import com.kusukaze.japanese.utils.GojuuonzuUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * 只读的列式动词字典<p>
+ * 所有写法和读音连续存放在同一个字符池中，通过偏移量定位；
+ * 类型以字节编码保存，编码对应的类型字符串（即VerbTypeConstants中的取值）保存在类型表中。
+ * 写法、规范化写法（片假名转为平假名）和读音各有一个索引，索引为拉链法的哈希表：桶数组保存链表首个条目，链表数组保存下一个条目，
+ * 键相同的条目按字典顺序串联。
+ * 规范化写法和读音另有按键排序的条目序号数组，用于二分查找前缀。
+ * 各列既可以是堆上数组，也可以是内存映射的字典快照（见{@link VerbDictionarySnapshot}），查询逻辑完全相同。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class VerbDictionary {
+    public static final VerbDictionary EMPTY = new Builder().build();
+
+    // 可建立索引的列
+    static final int KAKI = 0;
+    static final int NORMALIZED_KAKI = 1;
+    static final int YOMI = 2;
+
+    private static final int NO_ENTRY = -1;
+
+    // 字符池，第i个条目的写法为[offsets[2i], offsets[2i+1])，读音为[offsets[2i+1], offsets[2i+2])
+    private final CharBuffer pool;
+    private final IntBuffer offsets;
+    // 规范化写法的区间[start, end)，与写法相同时直接指向写法
+    private final IntBuffer normalizedKakiRanges;
+    private final ByteBuffer typeCodes;
+    private final String[] typeNames;
+    // 各列的索引：桶中保存链表首个条目，链表数组保存同一桶中的下一个条目
+    private final IntBuffer[] buckets;
+    private final IntBuffer[] next;
+    // 按规范化写法、读音排序的条目序号
+    private final IntBuffer sortedByNormalizedKaki;
+    private final IntBuffer sortedByYomi;
+    private final int size;
+
+    VerbDictionary(CharBuffer pool, IntBuffer offsets, IntBuffer normalizedKakiRanges,
+                   ByteBuffer typeCodes, String[] typeNames, IntBuffer[] buckets, IntBuffer[] next,
+                   IntBuffer sortedByNormalizedKaki, IntBuffer sortedByYomi) {
+        this.pool = pool;
+        this.offsets = offsets;
+        this.normalizedKakiRanges = normalizedKakiRanges;
+        this.typeCodes = typeCodes;
+        this.typeNames = typeNames;
+        this.buckets = buckets;
+        this.next = next;
+        this.sortedByNormalizedKaki = sortedByNormalizedKaki;
+        this.sortedByYomi = sortedByYomi;
+        this.size = typeCodes.capacity();
+    }
+
+    /**
+     * 返回字典条目数
+     * @return 条目数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 返回条目的写法
+     * @param entry 条目序号
+     * @return 写法
+     */
+    public String getKaki(int entry) {
+        return substring(start(KAKI, entry), end(KAKI, entry));
+    }
+
+    /**
+     * 返回条目规范化后的写法，即写法中的片假名转为平假名
+     * @param entry 条目序号
+     * @return 规范化后的写法
+     */
+    public String getNormalizedKaki(int entry) {
+        return substring(start(NORMALIZED_KAKI, entry), end(NORMALIZED_KAKI, entry));
+    }
+
+    /**
+     * 返回条目的读音（平假名）
+     * @param entry 条目序号
+     * @return 读音
+     */
+    public String getYomi(int entry) {
+        return substring(start(YOMI, entry), end(YOMI, entry));
+    }
+
+    /**
+     * 返回条目的类型编码
+     * @param entry 条目序号
+     * @return 类型编码，可通过{@link #getTypeName(int)}转为类型字符串
+     */
+    public int getTypeCode(int entry) {
+        return typeCodes.get(entry) & 0xFF;
+    }
+
+    /**
+     * 返回条目的类型
+     * @param entry 条目序号
+     * @return 类型字符串
+     */
+    public String getType(int entry) {
+        return typeNames[typeCodes.get(entry) & 0xFF];
+    }
+
+    /**
+     * 返回类型编码对应的类型字符串
+     * @param typeCode 类型编码
+     * @return 类型字符串
+     */
+    public String getTypeName(int typeCode) {
+        return typeNames[typeCode];
+    }
+
+    /**
+     * 返回字典中出现的类型种数
+     * @return 类型种数
+     */
+    public int getTypeCount() {
+        return typeNames.length;
+    }
+
+    /**
+     * 查找写法为kaki的第一个条目
+     * @param kaki 待查询的写法
+     * @return 条目序号，未找到时返回-1
+     */
+    public int findFirstByKaki(CharSequence kaki) {
+        return findFirst(KAKI, kaki);
+    }
+
+    /**
+     * 查找与entry写法相同的下一个条目
+     * @param entry 当前条目序号
+     * @return 下一个条目序号，没有时返回-1
+     */
+    public int findNextByKaki(int entry) {
+        return findNext(KAKI, entry);
+    }
+
+    /**
+     * 查找规范化写法为key的第一个条目
+     * @param key 待查询的写法，须已将片假名转为平假名
+     * @return 条目序号，未找到时返回-1
+     */
+    public int findFirstByNormalizedKaki(CharSequence key) {
+        return findFirst(NORMALIZED_KAKI, key);
+    }
+
+    /**
+     * 查找与entry规范化写法相同的下一个条目
+     * @param entry 当前条目序号
+     * @return 下一个条目序号，没有时返回-1
+     */
+    public int findNextByNormalizedKaki(int entry) {
+        return findNext(NORMALIZED_KAKI, entry);
+    }
+
+    /**
+     * 查找读音为yomi的第一个条目
+     * @param yomi 待查询的读音（平假名）
+     * @return 条目序号，未找到时返回-1
+     */
+    public int findFirstByYomi(CharSequence yomi) {
+        return findFirst(YOMI, yomi);
+    }
+
+    /**
+     * 查找与entry读音相同的下一个条目
+     * @param entry 当前条目序号
+     * @return 下一个条目序号，没有时返回-1
+     */
+    public int findNextByYomi(int entry) {
+        return findNext(YOMI, entry);
+    }
+
+    /**
+     * 按键的顺序遍历规范化写法或读音以prefix开头的条目<p>
+     * 两列的结果按键归并，同一条目可能出现两次（写法和读音都匹配时），由调用方去重
+     *
+     * @param prefix 前缀，须已将片假名转为平假名
+     * @return 条目序号的迭代器，按需逐个查找
+     */
+    public PrimitiveIterator.OfInt iterateByPrefix(CharSequence prefix) {
+        return new PrefixIterator(prefix);
+    }
+
+    /**
+     * 查询写法为kaki的全部类型
+     * @param kaki 待查询的写法
+     * @return 按字典顺序排列的类型列表
+     */
+    public List<String> getTypesByKaki(CharSequence kaki) {
+        int entry = findFirstByKaki(kaki);
+        if(entry == NO_ENTRY) {
+            return Collections.emptyList();
+        }
+        List<String> types = new ArrayList<>(1);
+        for(;entry!=NO_ENTRY;entry=findNextByKaki(entry)) {
+            types.add(getType(entry));
+        }
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * 返回字典各列占用的字节数（不含对象头和类型表）
+     * @return 字节数
+     */
+    public long getDataBytes() {
+        long bytes = (long)pool.capacity() * Character.BYTES + typeCodes.capacity()
+                + (long)(offsets.capacity() + normalizedKakiRanges.capacity()) * Integer.BYTES;
+        for(int column=KAKI;column<=YOMI;column++) {
+            bytes += (long)(buckets[column].capacity() + next[column].capacity()) * Integer.BYTES;
+        }
+        bytes += (long)(sortedByNormalizedKaki.capacity() + sortedByYomi.capacity()) * Integer.BYTES;
+        return bytes;
+    }
+
+    /**
+     * 字典是否直接读取内存映射的快照
+     * @return 是否为映射字典
+     */
+    public boolean isMapped() {
+        return typeCodes.isDirect();
+    }
+
+    CharBuffer pool() {
+        return pool.duplicate();
+    }
+
+    IntBuffer offsets() {
+        return offsets.duplicate();
+    }
+
+    IntBuffer normalizedKakiRanges() {
+        return normalizedKakiRanges.duplicate();
+    }
+
+    ByteBuffer typeCodes() {
+        return typeCodes.duplicate();
+    }
+
+    String[] typeNames() {
+        return typeNames.clone();
+    }
+
+    IntBuffer buckets(int column) {
+        return buckets[column].duplicate();
+    }
+
+    IntBuffer next(int column) {
+        return next[column].duplicate();
+    }
+
+    IntBuffer sorted(int column) {
+        return (column == YOMI ? sortedByYomi : sortedByNormalizedKaki).duplicate();
+    }
+
+    private int start(int column, int entry) {
+        switch (column) {
+            case KAKI: return offsets.get(2*entry);
+            case NORMALIZED_KAKI: return normalizedKakiRanges.get(2*entry);
+            default: return offsets.get(2*entry+1);
+        }
+    }
+
+    private int end(int column, int entry) {
+        switch (column) {
+            case KAKI: return offsets.get(2*entry+1);
+            case NORMALIZED_KAKI: return normalizedKakiRanges.get(2*entry+1);
+            default: return offsets.get(2*entry+2);
+        }
+    }
+
+    private int findFirst(int column, CharSequence key) {
+        IntBuffer columnBuckets = buckets[column];
+        IntBuffer columnNext = next[column];
+        int entry = columnBuckets.get(hash(key) & (columnBuckets.capacity() - 1));
+        for(;entry!=NO_ENTRY;entry=columnNext.get(entry)) {
+            if(regionEquals(key, start(column, entry), end(column, entry))) {
+                return entry;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    private int findNext(int column, int entry) {
+        IntBuffer columnNext = next[column];
+        int start = start(column, entry);
+        int end = end(column, entry);
+        for(int i=columnNext.get(entry);i!=NO_ENTRY;i=columnNext.get(i)) {
+            if(regionEquals(start, end, start(column, i), end(column, i))) {
+                return i;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    /**
+     * 返回sorted中第一个键不小于prefix的位置；afterPrefix为真时，返回第一个键既不以prefix开头、也不小于prefix的位置
+     */
+    private int binarySearch(int column, IntBuffer sorted, CharSequence prefix, boolean afterPrefix) {
+        int low = 0;
+        int high = sorted.capacity();
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            int entry = sorted.get(mid);
+            int cmp = comparePrefix(start(column, entry), end(column, entry), prefix);
+            if(cmp < 0 || (afterPrefix && cmp == 0)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 比较键与前缀，键以前缀开头时视为相等
+     */
+    private int comparePrefix(int start, int end, CharSequence prefix) {
+        int n = prefix.length();
+        for(int i=0;i<n;i++) {
+            if(start + i >= end) {
+                return -1;
+            }
+            int diff = pool.get(start + i) - prefix.charAt(i);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    private int compareKeys(int column1, int entry1, int column2, int entry2) {
+        int start1 = start(column1, entry1);
+        int end1 = end(column1, entry1);
+        int start2 = start(column2, entry2);
+        int end2 = end(column2, entry2);
+        for(int i=start1,j=start2;i<end1 && j<end2;i++,j++) {
+            int diff = pool.get(i) - pool.get(j);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return (end1 - start1) - (end2 - start2);
+    }
+
+    private IntBuffer sortEntries(int column) {
+        Integer[] entries = new Integer[size];
+        for(int i=0;i<size;i++) {
+            entries[i] = i;
+        }
+        // 稳定排序，键相同的条目保持字典顺序
+        Arrays.sort(entries, (a, b) -> compareKeys(column, a, column, b));
+        int[] sorted = new int[size];
+        for(int i=0;i<size;i++) {
+            sorted[i] = entries[i];
+        }
+        return IntBuffer.wrap(sorted);
+    }
+
+    /**
+     * 归并规范化写法和读音两个前缀区间的迭代器
+     */
+    private final class PrefixIterator implements PrimitiveIterator.OfInt {
+        private int kakiPosition;
+        private final int kakiEnd;
+        private int yomiPosition;
+        private final int yomiEnd;
+
+        private PrefixIterator(CharSequence prefix) {
+            kakiPosition = binarySearch(NORMALIZED_KAKI, sortedByNormalizedKaki, prefix, false);
+            kakiEnd = binarySearch(NORMALIZED_KAKI, sortedByNormalizedKaki, prefix, true);
+            yomiPosition = binarySearch(YOMI, sortedByYomi, prefix, false);
+            yomiEnd = binarySearch(YOMI, sortedByYomi, prefix, true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return kakiPosition < kakiEnd || yomiPosition < yomiEnd;
+        }
+
+        @Override
+        public int nextInt() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if(yomiPosition >= yomiEnd) {
+                return sortedByNormalizedKaki.get(kakiPosition++);
+            }
+            if(kakiPosition >= kakiEnd) {
+                return sortedByYomi.get(yomiPosition++);
+            }
+            int kakiEntry = sortedByNormalizedKaki.get(kakiPosition);
+            int yomiEntry = sortedByYomi.get(yomiPosition);
+            if(compareKeys(NORMALIZED_KAKI, kakiEntry, YOMI, yomiEntry) <= 0) {
+                kakiPosition++;
+                return kakiEntry;
+            }
+            yomiPosition++;
+            return yomiEntry;
+        }
+    }
+
+    private String substring(int start, int end) {
+        if(pool.hasArray()) {
+            return new String(pool.array(), pool.arrayOffset() + start, end - start);
+        }
+        char[] chars = new char[end - start];
+        for(int i=start;i<end;i++) {
+            chars[i-start] = pool.get(i);
+        }
+        return new String(chars);
+    }
+
+    private boolean regionEquals(CharSequence key, int start, int end) {
+        int n = key.length();
+        if(end - start != n) {
+            return false;
+        }
+        for(int i=0;i<n;i++) {
+            if(pool.get(start+i) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEquals(int start1, int end1, int start2, int end2) {
+        if(end1 - start1 != end2 - start2) {
+            return false;
+        }
+        for(int i=start1,j=start2;i<end1;i++,j++) {
+            if(pool.get(i) != pool.get(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 与String.hashCode一致的散列，再混合高位
+     */
+    private static int hash(CharSequence key) {
+        int h;
+        if(key instanceof String) {
+            h = key.hashCode(); // 复用String缓存的散列值
+            return h ^ (h >>> 16);
+        }
+        h = 0;
+        int n = key.length();
+        for(int i=0;i<n;i++) {
+            h = 31 * h + key.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(char[] chars, int start, int end) {
+        int h = 0;
+        for(int i=start;i<end;i++) {
+            h = 31 * h + chars[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int entries) {
+        int size = 16;
+        while(size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * 字典构建器，按加入顺序保存条目
+     */
+    public static final class Builder {
+        private char[] pool = new char[1024];
+        private int poolSize = 0;
+        private char[] extra = new char[256];
+        private int extraSize = 0;
+        private int[] offsets = new int[257];
+        private int[] normalizedKakiRanges = new int[256];
+        private byte[] typeCodes = new byte[128];
+        private int entries = 0;
+        private final Map<String,Integer> typeCodeMap = new HashMap<>();
+        private final List<String> typeNames = new ArrayList<>();
+
+        /**
+         * 加入一个条目
+         * @param kaki 写法
+         * @param yomi 读音（平假名）
+         * @param type 类型
+         * @return 构建器本身
+         */
+        public Builder add(String kaki, String yomi, String type) {
+            Integer code = typeCodeMap.get(type);
+            if(code == null) {
+                if(typeNames.size() > 0xFF) {
+                    throw new IllegalStateException("动词类型过多：" + type);
+                }
+                code = typeNames.size();
+                typeCodeMap.put(type, code);
+                typeNames.add(type);
+            }
+            if(entries == typeCodes.length) {
+                typeCodes = Arrays.copyOf(typeCodes, entries * 2);
+                offsets = Arrays.copyOf(offsets, entries * 4 + 1);
+                normalizedKakiRanges = Arrays.copyOf(normalizedKakiRanges, entries * 4);
+            }
+            int kakiStart = poolSize;
+            pool = append(pool, poolSize, kaki);
+            poolSize += kaki.length();
+            offsets[2*entries+1] = poolSize;
+            pool = append(pool, poolSize, yomi);
+            poolSize += yomi.length();
+            offsets[2*entries+2] = poolSize;
+            // 规范化写法与写法不同时才单独保存，构建时拼接到字符池末尾，此处记为负数以示区分
+            String normalizedKaki = GojuuonzuUtils.katakana2Hiragana(kaki);
+            if(normalizedKaki.equals(kaki)) {
+                normalizedKakiRanges[2*entries] = kakiStart;
+                normalizedKakiRanges[2*entries+1] = kakiStart + kaki.length();
+            }
+            else {
+                normalizedKakiRanges[2*entries] = ~extraSize;
+                extra = append(extra, extraSize, normalizedKaki);
+                extraSize += normalizedKaki.length();
+                normalizedKakiRanges[2*entries+1] = ~extraSize;
+            }
+            typeCodes[entries] = (byte)(int)code;
+            entries++;
+            return this;
+        }
+
+        private static char[] append(char[] chars, int size, String s) {
+            int n = s.length();
+            if(size + n > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, size + n));
+            }
+            s.getChars(0, n, chars, size);
+            return chars;
+        }
+
+        /**
+         * 构建只读字典，数组按实际大小截断
+         * @return 字典
+         */
+        public VerbDictionary build() {
+            char[] chars = Arrays.copyOf(pool, poolSize + extraSize);
+            System.arraycopy(extra, 0, chars, poolSize, extraSize);
+            int[] ranges = Arrays.copyOf(normalizedKakiRanges, 2*entries);
+            for(int i=0;i<ranges.length;i++) {
+                if(ranges[i] < 0) {
+                    ranges[i] = poolSize + ~ranges[i];
+                }
+            }
+            CharBuffer poolBuffer = CharBuffer.wrap(chars);
+            IntBuffer offsetBuffer = IntBuffer.wrap(Arrays.copyOf(offsets, 2*entries+1));
+            IntBuffer rangeBuffer = IntBuffer.wrap(ranges);
+            IntBuffer[] buckets = new IntBuffer[YOMI + 1];
+            IntBuffer[] next = new IntBuffer[YOMI + 1];
+            for(int column=KAKI;column<=YOMI;column++) {
+                IntBuffer columnRanges = column == NORMALIZED_KAKI ? rangeBuffer : offsetBuffer;
+                int shift = column == YOMI ? 1 : 0;
+                int[] columnBuckets = new int[tableSize(entries)];
+                int[] columnNext = new int[entries];
+                Arrays.fill(columnBuckets, NO_ENTRY);
+                int mask = columnBuckets.length - 1;
+                // 倒序插入链表头部，使链表按条目顺序排列
+                for(int i=entries-1;i>=0;i--) {
+                    int bucket = hash(chars, columnRanges.get(2*i+shift), columnRanges.get(2*i+shift+1)) & mask;
+                    columnNext[i] = columnBuckets[bucket];
+                    columnBuckets[bucket] = i;
+                }
+                buckets[column] = IntBuffer.wrap(columnBuckets);
+                next[column] = IntBuffer.wrap(columnNext);
+            }
+            ByteBuffer typeBuffer = ByteBuffer.wrap(Arrays.copyOf(typeCodes, entries));
+            String[] types = typeNames.toArray(new String[0]);
+            // 先构建未排序的字典，借用其比较逻辑生成排序数组
+            IntBuffer empty = IntBuffer.allocate(0);
+            VerbDictionary unsorted = new VerbDictionary(poolBuffer, offsetBuffer, rangeBuffer,
+                    typeBuffer, types, buckets, next, empty, empty);
+            return new VerbDictionary(poolBuffer, offsetBuffer, rangeBuffer, typeBuffer, types, buckets, next,
+                    unsorted.sortEntries(NORMALIZED_KAKI), unsorted.sortEntries(YOMI));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 字典编译工具：将文本字典编译为二进制快照<p>
+ * 用法：VerbDictionaryCompiler [文本字典路径] [快照路径]
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class VerbDictionaryCompiler {
+    public static final String DEFAULT_SOURCE = "src/main/resources/dictionary/verbDictionary.txt";
+    public static final String DEFAULT_SNAPSHOT = "src/main/resources/dictionary/verbDictionary.bin";
+
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : DEFAULT_SOURCE);
+        Path snapshot = Paths.get(args.length > 1 ? args[1] : DEFAULT_SNAPSHOT);
+        long startTime = System.currentTimeMillis();
+        VerbDictionary dictionary;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            dictionary = VerbDictionaryParser.parse(reader);
+        }
+        if(snapshot.getParent() != null) {
+            Files.createDirectories(snapshot.getParent());
+        }
+        VerbDictionarySnapshot.write(dictionary, snapshot);
+        long runTime = System.currentTimeMillis() - startTime;
+        System.out.println("已编译 " + dictionary.size() + " 个条目至 " + snapshot
+                + "（" + Files.size(snapshot) + " 字节）   耗时：" + runTime + " ms");
+    }
+}
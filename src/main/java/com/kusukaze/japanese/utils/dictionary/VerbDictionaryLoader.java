@@ -0,0 +1,151 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 动词字典加载器<p>
+ * 若指定了路径，则从该路径加载：路径为快照时直接映射，为文本字典时优先映射同目录下未过期的快照；
+ * 否则从类路径加载：优先使用快照资源，快照位于jar包内无法映射时读入堆缓冲区，没有快照时解析文本字典。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class VerbDictionaryLoader {
+    private static final Logger logger = Logger.getLogger(VerbDictionaryLoader.class.getName());
+
+    /** 指定字典路径的系统属性 */
+    public static final String PATH_PROPERTY = "java-verb.dictionary.path";
+    /** 指定加载方式的系统属性，取值见{@link LoadMode} */
+    public static final String MODE_PROPERTY = "java-verb.dictionary.mode";
+
+    public static final String SOURCE_RESOURCE = "/dictionary/verbDictionary.txt";
+    public static final String SNAPSHOT_RESOURCE = "/dictionary/verbDictionary.bin";
+
+    private VerbDictionaryLoader() {}
+
+    /**
+     * 读取系统属性中配置的字典路径
+     * @return 字典路径，未配置时返回null
+     */
+    public static Path configuredPath() {
+        String path = System.getProperty(PATH_PROPERTY);
+        return path == null || path.isEmpty() ? null : Paths.get(path);
+    }
+
+    /**
+     * 读取系统属性中配置的加载方式
+     * @param defaultMode 未配置或配置无效时使用的加载方式
+     * @return 加载方式
+     */
+    public static LoadMode configuredMode(LoadMode defaultMode) {
+        String mode = System.getProperty(MODE_PROPERTY);
+        if(mode == null || mode.isEmpty()) {
+            return defaultMode;
+        }
+        try {
+            return LoadMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warning("未知的字典加载方式：" + mode + "，使用 " + defaultMode);
+            return defaultMode;
+        }
+    }
+
+    /**
+     * 加载动词字典
+     *
+     * @param path 字典路径，为null时从类路径加载
+     * @return 字典
+     * @throws IOException 字典不存在或读取失败
+     */
+    public static VerbDictionary load(Path path) throws IOException {
+        return path == null ? loadFromClasspath() : loadFromPath(path);
+    }
+
+    private static VerbDictionary loadFromPath(Path path) throws IOException {
+        if(isSnapshot(path)) {
+            return VerbDictionarySnapshot.map(path);
+        }
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        Path snapshot = path.resolveSibling((dot < 0 ? fileName : fileName.substring(0, dot)) + ".bin");
+        if(VerbDictionarySnapshot.isUpToDate(snapshot, path)) {
+            try {
+                return VerbDictionarySnapshot.map(snapshot);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "字典快照不可用，改为读取文本字典：" + snapshot, e);
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return VerbDictionaryParser.parse(reader);
+        }
+    }
+
+    private static VerbDictionary loadFromClasspath() throws IOException {
+        URL snapshot = VerbDictionaryLoader.class.getResource(SNAPSHOT_RESOURCE);
+        if(snapshot != null) {
+            try {
+                if("file".equals(snapshot.getProtocol())) {
+                    Path snapshotPath = Paths.get(snapshot.toURI());
+                    Path sourcePath = snapshotPath.resolveSibling(Paths.get(SOURCE_RESOURCE).getFileName());
+                    if(VerbDictionarySnapshot.isUpToDate(snapshotPath, sourcePath)) {
+                        return VerbDictionarySnapshot.map(snapshotPath);
+                    }
+                    logger.info("字典快照比文本字典旧，改为读取文本字典：" + snapshotPath
+                            + "（用VerbDictionaryCompiler重新生成快照，mvn构建时自动执行）");
+                }
+                else {
+                    // jar包内的资源无法映射，整体读入后直接使用
+                    try (InputStream in = snapshot.openStream()) {
+                        return VerbDictionarySnapshot.read(ByteBuffer.wrap(readAll(in)));
+                    }
+                }
+            } catch (IOException | URISyntaxException e) {
+                logger.log(Level.WARNING, "字典快照不可用，改为读取文本字典：" + snapshot, e);
+            }
+        }
+        else {
+            logger.info("类路径中没有字典快照" + SNAPSHOT_RESOURCE + "，改为读取文本字典"
+                    + "（用VerbDictionaryCompiler生成快照，mvn构建时自动执行）");
+        }
+        InputStream in = VerbDictionaryLoader.class.getResourceAsStream(SOURCE_RESOURCE);
+        if(in == null) {
+            throw new IOException("类路径中没有找到动词字典：" + SOURCE_RESOURCE);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return VerbDictionaryParser.parse(reader);
+        }
+    }
+
+    private static boolean isSnapshot(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] magic = new byte[4];
+            return in.read(magic) == 4 && ByteBuffer.wrap(magic).getInt() == VerbDictionarySnapshot.MAGIC;
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        byte[] buffer = new byte[1 << 16];
+        int size = 0;
+        int n;
+        while ((n = in.read(buffer, size, buffer.length - size)) >= 0) {
+            size += n;
+            if(size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+}
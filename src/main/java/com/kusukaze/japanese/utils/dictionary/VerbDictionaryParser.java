@@ -0,0 +1,47 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import com.kusukaze.japanese.utils.GojuuonzuUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 文本动词字典解析器<p>
+ * 每行格式为「写法,读音,类型」，写法为空时使用读音
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class VerbDictionaryParser {
+    private VerbDictionaryParser() {}
+
+    /**
+     * 逐行解析文本字典
+     *
+     * @param reader 文本字典
+     * @return 字典
+     * @throws IOException 读取失败
+     */
+    public static VerbDictionary parse(BufferedReader reader) throws IOException {
+        VerbDictionary.Builder builder = new VerbDictionary.Builder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] values = line.split(",");
+            if(values.length < 3) {
+                continue;
+            }
+            // 没有汉字，则将读音赋值给汉字
+            if(values[0].isEmpty()) {
+                values[0] = values[1];
+            }
+            // 词尾不为する的サ便动词补上する
+            if(values[2].startsWith("vs") && !values[1].endsWith("する")) {
+                values[0] += "する";
+                values[1] += "する";
+            }
+            builder.add(values[0],
+                    GojuuonzuUtils.katakana2Hiragana(values[1]), // 读音转为平假名
+                    values[2]);
+        }
+        return builder.build();
+    }
+}
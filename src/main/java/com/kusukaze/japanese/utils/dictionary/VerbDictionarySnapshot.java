@@ -0,0 +1,214 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 动词字典的二进制快照<p>
+ * 快照中保存的是已经规范化的读音、类型编码和写法索引，启动时通过内存映射直接读取，无需再解析文本字典。
+ * 文件格式（大端序）：
+ * <pre>
+ * int    魔数 JVDC
+ * int    版本号
+ * int    条目数 n
+ * int    字符池长度
+ * int    索引桶数
+ * int    类型数
+ * 类型表  每个类型为 short长度 + UTF-16字符，末尾补齐至4字节
+ * int[]  偏移量 (2n+1)
+ * int[]  规范化写法区间 (2n)
+ * 3组索引 依次为写法、规范化写法、读音，每组为 int[]索引桶 + int[]索引链 (n)
+ * int[]  按规范化写法排序的条目序号 (n)
+ * int[]  按读音排序的条目序号 (n)
+ * char[] 字符池
+ * byte[] 类型编码 (n)
+ * </pre>
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class VerbDictionarySnapshot {
+    static final int MAGIC = 0x4A564443; // "JVDC"
+    public static final int VERSION = 3;
+
+    private VerbDictionarySnapshot() {}
+
+    /**
+     * 将字典写为二进制快照
+     *
+     * @param dictionary 待写入的字典
+     * @param path 快照路径
+     * @throws IOException 写入失败
+     */
+    public static void write(VerbDictionary dictionary, Path path) throws IOException {
+        CharBuffer pool = dictionary.pool();
+        IntBuffer offsets = dictionary.offsets();
+        IntBuffer normalizedKakiRanges = dictionary.normalizedKakiRanges();
+        ByteBuffer typeCodes = dictionary.typeCodes();
+        String[] typeNames = dictionary.typeNames();
+        int bucketCount = dictionary.buckets(VerbDictionary.KAKI).capacity();
+
+        int typeTableBytes = 0;
+        for (String typeName : typeNames) {
+            typeTableBytes += Short.BYTES + typeName.length() * Character.BYTES;
+        }
+        typeTableBytes = align(typeTableBytes);
+        long total = 6L * Integer.BYTES + typeTableBytes
+                + (long)(offsets.capacity() + normalizedKakiRanges.capacity()) * Integer.BYTES
+                + (3L * bucketCount + 5L * dictionary.size()) * Integer.BYTES
+                + (long)pool.capacity() * Character.BYTES + typeCodes.capacity();
+        if(total > Integer.MAX_VALUE) {
+            throw new IOException("字典过大，无法写入快照");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int)total).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(dictionary.size()).putInt(pool.capacity())
+                .putInt(bucketCount).putInt(typeNames.length);
+        int typeTableStart = buffer.position();
+        for (String typeName : typeNames) {
+            buffer.putShort((short)typeName.length());
+            for(int i=0;i<typeName.length();i++) {
+                buffer.putChar(typeName.charAt(i));
+            }
+        }
+        buffer.position(typeTableStart + typeTableBytes);
+        putInts(buffer, offsets);
+        putInts(buffer, normalizedKakiRanges);
+        for(int column=VerbDictionary.KAKI;column<=VerbDictionary.YOMI;column++) {
+            putInts(buffer, dictionary.buckets(column));
+            putInts(buffer, dictionary.next(column));
+        }
+        putInts(buffer, dictionary.sorted(VerbDictionary.NORMALIZED_KAKI));
+        putInts(buffer, dictionary.sorted(VerbDictionary.YOMI));
+        buffer.asCharBuffer().put(pool);
+        buffer.position(buffer.position() + pool.capacity() * Character.BYTES);
+        buffer.put(typeCodes);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * 以只读内存映射的方式打开快照<p>
+     * 除类型表外，所有列都直接读取映射区域，不会复制到堆上
+     *
+     * @param path 快照路径
+     * @return 字典
+     * @throws IOException 读取失败，或快照格式、版本不匹配
+     */
+    public static VerbDictionary map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * 从字节缓冲区读取快照，各列为缓冲区的视图
+     *
+     * @param buffer 快照内容
+     * @return 字典
+     * @throws IOException 快照格式或版本不匹配
+     */
+    public static VerbDictionary read(ByteBuffer buffer) throws IOException {
+        buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if(buffer.remaining() < 6 * Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("不是动词字典快照");
+        }
+        int version = buffer.getInt();
+        if(version != VERSION) {
+            throw new IOException("字典快照版本不匹配：" + version + "，需要 " + VERSION);
+        }
+        int size = buffer.getInt();
+        int poolSize = buffer.getInt();
+        int bucketCount = buffer.getInt();
+        int typeCount = buffer.getInt();
+        if(size < 0 || poolSize < 0 || bucketCount < 0 || typeCount < 0 || typeCount > 0x100) {
+            throw new IOException("字典快照已损坏");
+        }
+
+        int typeTableStart = buffer.position();
+        String[] typeNames = new String[typeCount];
+        for(int i=0;i<typeCount;i++) {
+            if(buffer.remaining() < Short.BYTES) {
+                throw new IOException("字典快照已损坏");
+            }
+            char[] chars = new char[buffer.getShort()];
+            if(buffer.remaining() < chars.length * Character.BYTES) {
+                throw new IOException("字典快照已损坏");
+            }
+            for(int j=0;j<chars.length;j++) {
+                chars[j] = buffer.getChar();
+            }
+            typeNames[i] = new String(chars);
+        }
+        int typeTableEnd = typeTableStart + align(buffer.position() - typeTableStart);
+        if(typeTableEnd > buffer.limit()) {
+            throw new IOException("字典快照已损坏");
+        }
+        buffer.position(typeTableEnd);
+
+        IntBuffer offsets = slice(buffer, (2L * size + 1) * Integer.BYTES).asIntBuffer();
+        IntBuffer normalizedKakiRanges = slice(buffer, 2L * size * Integer.BYTES).asIntBuffer();
+        IntBuffer[] buckets = new IntBuffer[VerbDictionary.YOMI + 1];
+        IntBuffer[] next = new IntBuffer[VerbDictionary.YOMI + 1];
+        for(int column=VerbDictionary.KAKI;column<=VerbDictionary.YOMI;column++) {
+            buckets[column] = slice(buffer, (long)bucketCount * Integer.BYTES).asIntBuffer();
+            next[column] = slice(buffer, (long)size * Integer.BYTES).asIntBuffer();
+        }
+        IntBuffer sortedByNormalizedKaki = slice(buffer, (long)size * Integer.BYTES).asIntBuffer();
+        IntBuffer sortedByYomi = slice(buffer, (long)size * Integer.BYTES).asIntBuffer();
+        CharBuffer pool = slice(buffer, (long)poolSize * Character.BYTES).asCharBuffer();
+        ByteBuffer typeCodes = slice(buffer, size);
+        return new VerbDictionary(pool, offsets, normalizedKakiRanges, typeCodes, typeNames, buckets, next,
+                sortedByNormalizedKaki, sortedByYomi);
+    }
+
+    /**
+     * 判断快照是否可用：快照存在，且不早于文本字典
+     *
+     * @param snapshot 快照路径
+     * @param source 文本字典路径
+     * @return 是否可用
+     */
+    public static boolean isUpToDate(Path snapshot, Path source) {
+        try {
+            return Files.isRegularFile(snapshot) && (!Files.exists(source)
+                    || Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(source)) >= 0);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void putInts(ByteBuffer buffer, IntBuffer ints) {
+        int bytes = ints.remaining() * Integer.BYTES;
+        buffer.asIntBuffer().put(ints);
+        buffer.position(buffer.position() + bytes);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, long length) throws IOException {
+        if(buffer.remaining() < length) {
+            throw new IOException("字典快照已损坏");
+        }
+        ByteBuffer slice = buffer.slice();
+        slice.limit((int)length);
+        buffer.position(buffer.position() + (int)length);
+        return slice.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 3) & ~3;
+    }
+}
@@ -0,0 +1,61 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 变形的JFR事件，默认只记录耗时超过100微秒的变形，可在JFR配置中修改threshold。由{@link FlightRecorderEvents#beginConjugation()}创建
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@Name("com.kusukaze.japanese.Conjugation")
+@Label("变形")
+@Category({"Java-Verb", "Conjugation"})
+@Description("动词、形容词、形容动词的一次变形")
+@Threshold("100 us")
+@StackTrace(false)
+public final class ConjugationEvent extends Event {
+    @Label("单词")
+    String word;
+
+    @Label("种类")
+    @Description("Verb、Adjective或AdjectiveNoun")
+    String kind;
+
+    @Label("变形")
+    String form;
+
+    // 字典中的类型字符串会在每个事件中写入常量池，因此只记录分类的编号
+    @Label("分类")
+    @Description("动词分类VerbClass的序号，非动词为-1")
+    byte verbClass;
+
+    @Label("成功")
+    boolean converted;
+
+    /**
+     * 结束计时并在需要时提交事件
+     *
+     * @param metrics 该类单词的变形统计，用于取得种类和变形的名称
+     * @param form 变形编号
+     * @param verbClass 动词分类VerbClass的序号，非动词为-1
+     * @param word 单词
+     * @param converted 是否变形成功
+     */
+    public void finish(FormMetrics metrics, int form, int verbClass, CharSequence word, boolean converted) {
+        end();
+        if(shouldCommit()) {
+            this.word = word == null ? null : word.toString();
+            kind = metrics.kind;
+            this.form = metrics.formNames[form];
+            this.verbClass = (byte) verbClass;
+            this.converted = converted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 动词字典加载的JFR事件，默认开启且没有阈值。由{@link FlightRecorderEvents#beginDictionaryLoad()}创建
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@Name("com.kusukaze.japanese.DictionaryLoad")
+@Label("动词字典加载")
+@Category({"Java-Verb", "Dictionary"})
+@Description("加载动词字典（文本字典或快照）的耗时与结果")
+public final class DictionaryLoadEvent extends Event {
+    @Label("字典文件")
+    @Description("字典路径，从类路径加载时为classpath:/dictionary/")
+    String file;
+
+    @Label("条目数")
+    int entries;
+
+    @Label("数据大小")
+    @Description("字典各列占用的字节数")
+    @DataAmount
+    long bytes;
+
+    @Label("内存映射")
+    boolean mapped;
+
+    @Label("成功")
+    boolean succeeded;
+
+    /**
+     * 结束计时并在需要时提交事件
+     *
+     * @param file 字典路径
+     * @param dictionary 加载的字典，加载失败时为null
+     */
+    public void finish(String file, VerbDictionary dictionary) {
+        end();
+        if(shouldCommit()) {
+            this.file = file;
+            succeeded = dictionary != null;
+            if(dictionary != null) {
+                entries = dictionary.size();
+                bytes = dictionary.getDataBytes();
+                mapped = dictionary.isMapped();
+            }
+            commit();
+        }
+    }
+}
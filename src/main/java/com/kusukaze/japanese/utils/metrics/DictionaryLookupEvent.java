@@ -0,0 +1,43 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 动词字典查询的JFR事件，默认只记录耗时超过100微秒的查询，可在JFR配置中修改threshold。由{@link FlightRecorderEvents#beginLookup()}创建
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+@Name("com.kusukaze.japanese.DictionaryLookup")
+@Label("动词字典查询")
+@Category({"Java-Verb", "Dictionary"})
+@Description("按写法或读音查询动词字典")
+@Threshold("100 us")
+@StackTrace(false)
+public final class DictionaryLookupEvent extends Event {
+    @Label("关键字")
+    String key;
+
+    @Label("命中")
+    boolean hit;
+
+    /**
+     * 结束计时并在需要时提交事件
+     *
+     * @param key 查询的关键字
+     * @param hit 是否找到结果
+     */
+    public void finish(String key, boolean hit) {
+        end();
+        if(shouldCommit()) {
+            this.key = key;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 创建JFR事件<p>
+ * 加载第一个事件类会初始化JFR，启动时多花数百毫秒，因此没有正在进行的JFR记录时各方法返回null，不加载事件类，
+ * 也不创建事件对象，只读一个volatile字段。是否正在记录由监听器跟踪，注册监听器不会初始化JFR。
+ * 事件是否提交由JFR配置决定（enabled、threshold），可以在.jfc文件或jcmd JFR.start的参数中修改
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class FlightRecorderEvents {
+    private static volatile boolean recording;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    update(recorder);
+                }
+
+                @Override
+                public void recordingStateChanged(Recording changed) {
+                    update(FlightRecorder.getFlightRecorder());
+                }
+            });
+        } catch (SecurityException e) {
+            // 没有权限时不产生事件
+        }
+    }
+
+    private FlightRecorderEvents() {}
+
+    /**
+     * 开始一个字典加载事件
+     * @return 已开始计时的事件，没有正在进行的记录时为null
+     */
+    public static DictionaryLoadEvent beginDictionaryLoad() {
+        if(!recording) {
+            return null;
+        }
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 开始一个字典查询事件
+     * @return 已开始计时的事件，没有正在进行的记录时为null
+     */
+    public static DictionaryLookupEvent beginLookup() {
+        if(!recording) {
+            return null;
+        }
+        DictionaryLookupEvent event = new DictionaryLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 开始一个变形事件
+     * @return 已开始计时的事件，没有正在进行的记录时为null
+     */
+    public static ConjugationEvent beginConjugation() {
+        if(!recording) {
+            return null;
+        }
+        ConjugationEvent event = new ConjugationEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void update(FlightRecorder recorder) {
+        boolean running = false;
+        for (Recording r : recorder.getRecordings()) {
+            if(r.getState() == RecordingState.RUNNING) {
+                running = true;
+                break;
+            }
+        }
+        recording = running;
+    }
+}
@@ -0,0 +1,61 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一类单词（如动词）各变形的调用次数与无法变形次数<p>
+ * 由{@link JavaVerbMetrics#forms(String, String...)}创建，变形编号即创建时名称的下标
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class FormMetrics {
+    final String kind;
+    final String[] formNames;
+    private final LongAdder[] calls;
+    private final LongAdder[] unconverted;
+
+    FormMetrics(String kind, String[] formNames) {
+        this.kind = kind;
+        this.formNames = formNames.clone();
+        calls = new LongAdder[formNames.length];
+        unconverted = new LongAdder[formNames.length];
+        for(int i=0;i<formNames.length;i++) {
+            calls[i] = new LongAdder();
+            unconverted[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次变形调用，统计关闭时不做任何事
+     *
+     * @param form 变形编号
+     * @param converted 是否变形成功
+     */
+    public void record(int form, boolean converted) {
+        if(!JavaVerbMetrics.enabled) {
+            return;
+        }
+        calls[form].increment();
+        if(!converted) {
+            unconverted[form].increment();
+        }
+    }
+
+    /**
+     * 将各变形的计数写入out，键为"种类.变形名称"
+     */
+    void collect(Map<String,Long> out, boolean unconvertedOnly) {
+        LongAdder[] counters = unconvertedOnly ? unconverted : calls;
+        for(int i=0;i<formNames.length;i++) {
+            out.put(kind + "." + formNames[i], counters[i].sum());
+        }
+    }
+
+    void reset() {
+        for(int i=0;i<formNames.length;i++) {
+            calls[i].reset();
+            unconverted[i].reset();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 运行时统计：字典加载、字典查询的命中与耗时，以及各变形的调用次数与无法变形次数<p>
+ * 查询与变形的统计默认关闭，关闭时每次调用只多读一个volatile字段；
+ * 可以在启动时用系统属性java-verb.metrics.enabled=true开启，或调用{@link #enable()}，也可以通过JMX的Enabled属性切换。
+ * 字典加载很少发生，且通常早于开启统计，因此总是记录。
+ * 类初始化时即将{@link JavaVerbMetricsMXBean}注册到平台MBeanServer，不论是否开启统计，运行中可以随时通过JMX开启；
+ * 计数均为LongAdder，耗时按2的幂分桶记录
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class JavaVerbMetrics {
+    /** 启动时开启统计的系统属性 */
+    public static final String ENABLED_PROPERTY = "java-verb.metrics.enabled";
+    /** MBean的注册名 */
+    public static final String OBJECT_NAME = "com.kusukaze.japanese:type=JavaVerbMetrics";
+
+    private static final Logger logger = Logger.getLogger(JavaVerbMetrics.class.getName());
+
+    static volatile boolean enabled;
+
+    private static final LongAdder dictionaryLoads = new LongAdder();
+    private static final LongAdder dictionaryLoadFailures = new LongAdder();
+    private static volatile int dictionaryEntries;
+    private static final LatencyHistogram dictionaryLoadTime = new LatencyHistogram();
+    private static final LongAdder lookupHits = new LongAdder();
+    private static final LongAdder lookupMisses = new LongAdder();
+    private static final LatencyHistogram lookupTime = new LatencyHistogram();
+    private static final List<FormMetrics> forms = new CopyOnWriteArrayList<>();
+
+    private static final JavaVerbMetricsMXBean MX_BEAN = new MXBeanImpl();
+    private static boolean registered;
+
+    static {
+        registerMBean();
+        enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    private JavaVerbMetrics() {}
+
+    /**
+     * 开启查询与变形的统计
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * 关闭查询与变形的统计，已统计的数据保留
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * 判断是否正在统计查询与变形
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 返回统计数据，不需要经过JMX
+     * @return 与注册的MBean相同的对象
+     */
+    public static JavaVerbMetricsMXBean getMXBean() {
+        return MX_BEAN;
+    }
+
+    /**
+     * 将MBean注册到平台MBeanServer，已注册时不做任何事；注册失败时只记录日志<p>
+     * 类初始化时已调用，只有之前注册失败（如安全管理器禁止）时才需要再次调用
+     */
+    public static synchronized void registerMBean() {
+        if(registered) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if(!server.isRegistered(name)) {
+                server.registerMBean(MX_BEAN, name);
+            }
+            registered = true;
+        } catch (JMException | SecurityException e) {
+            logger.log(Level.WARNING, "统计MBean注册失败：" + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * 创建一类单词的变形统计
+     *
+     * @param kind 单词的种类，如"Verb"
+     * @param formNames 各变形的名称，下标即变形编号
+     * @return 变形统计
+     */
+    public static FormMetrics forms(String kind, String... formNames) {
+        FormMetrics metrics = new FormMetrics(kind, formNames);
+        forms.add(metrics);
+        return metrics;
+    }
+
+    /**
+     * 记录一次成功的字典加载
+     *
+     * @param nanos 耗时（纳秒）
+     * @param entries 条目数
+     */
+    public static void recordDictionaryLoad(long nanos, int entries) {
+        dictionaryLoads.increment();
+        dictionaryEntries = entries;
+        dictionaryLoadTime.record(nanos);
+    }
+
+    /**
+     * 记录一次失败的字典加载
+     */
+    public static void recordDictionaryLoadFailure() {
+        dictionaryLoadFailures.increment();
+    }
+
+    /**
+     * 字典查询开始时调用
+     * @return 传给{@link #recordLookup(long, boolean)}的开始时间，统计关闭时为0
+     */
+    public static long lookupStart() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 字典查询结束时调用，统计关闭时不做任何事
+     *
+     * @param start {@link #lookupStart()}的返回值
+     * @param hit 是否找到结果
+     */
+    public static void recordLookup(long start, boolean hit) {
+        if(start == 0 || !enabled) {
+            return;
+        }
+        lookupTime.record(System.nanoTime() - start);
+        if(hit) {
+            lookupHits.increment();
+        }
+        else {
+            lookupMisses.increment();
+        }
+    }
+
+    private static final class MXBeanImpl implements JavaVerbMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            JavaVerbMetrics.enabled = enabled;
+        }
+
+        @Override
+        public long getDictionaryLoads() {
+            return dictionaryLoads.sum();
+        }
+
+        @Override
+        public long getDictionaryLoadFailures() {
+            return dictionaryLoadFailures.sum();
+        }
+
+        @Override
+        public int getDictionaryEntries() {
+            return dictionaryEntries;
+        }
+
+        @Override
+        public LatencyHistogram.Snapshot getDictionaryLoadTime() {
+            return dictionaryLoadTime.snapshot();
+        }
+
+        @Override
+        public long getLookupHits() {
+            return lookupHits.sum();
+        }
+
+        @Override
+        public long getLookupMisses() {
+            return lookupMisses.sum();
+        }
+
+        @Override
+        public double getLookupHitRate() {
+            long hits = lookupHits.sum();
+            long requests = hits + lookupMisses.sum();
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        @Override
+        public LatencyHistogram.Snapshot getLookupTime() {
+            return lookupTime.snapshot();
+        }
+
+        @Override
+        public Map<String,Long> getFormCalls() {
+            Map<String,Long> calls = new TreeMap<>();
+            for (FormMetrics metrics : forms) {
+                metrics.collect(calls, false);
+            }
+            return calls;
+        }
+
+        @Override
+        public Map<String,Long> getUnconvertedForms() {
+            Map<String,Long> unconverted = new TreeMap<>();
+            for (FormMetrics metrics : forms) {
+                metrics.collect(unconverted, true);
+            }
+            return unconverted;
+        }
+
+        @Override
+        public void reset() {
+            lookupHits.reset();
+            lookupMisses.reset();
+            lookupTime.reset();
+            for (FormMetrics metrics : forms) {
+                metrics.reset();
+            }
+        }
+    }
+}
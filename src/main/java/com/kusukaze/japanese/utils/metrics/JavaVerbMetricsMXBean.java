@@ -0,0 +1,76 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import java.util.Map;
+
+/**
+ * 运行时统计数据的JMX接口，注册名见{@link JavaVerbMetrics#OBJECT_NAME}
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public interface JavaVerbMetricsMXBean {
+    /**
+     * @return 是否正在统计查询与变形
+     */
+    boolean isEnabled();
+
+    /**
+     * 开启或关闭查询与变形的统计，已统计的数据保留
+     * @param enabled 是否统计
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return 字典加载成功的次数
+     */
+    long getDictionaryLoads();
+
+    /**
+     * @return 字典加载失败的次数
+     */
+    long getDictionaryLoadFailures();
+
+    /**
+     * @return 最近一次加载成功的字典的条目数，未加载时为0
+     */
+    int getDictionaryEntries();
+
+    /**
+     * @return 字典加载成功的耗时
+     */
+    LatencyHistogram.Snapshot getDictionaryLoadTime();
+
+    /**
+     * @return 字典查询找到结果的次数
+     */
+    long getLookupHits();
+
+    /**
+     * @return 字典查询没有找到结果的次数
+     */
+    long getLookupMisses();
+
+    /**
+     * @return 命中次数 / 查询次数，没有查询时为0
+     */
+    double getLookupHitRate();
+
+    /**
+     * @return 字典查询的耗时
+     */
+    LatencyHistogram.Snapshot getLookupTime();
+
+    /**
+     * @return 各变形的调用次数，键如"Verb.TE"
+     */
+    Map<String,Long> getFormCalls();
+
+    /**
+     * @return 各变形无法变形（结果为null或追加失败）的次数，键同{@link #getFormCalls()}
+     */
+    Map<String,Long> getUnconvertedForms();
+
+    /**
+     * 清空查询与变形的统计数据，字典加载的统计保留
+     */
+    void reset();
+}
@@ -0,0 +1,138 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按2的幂分桶的并发耗时直方图<p>
+ * 第i个桶记录[2^(i-1), 2^i)纳秒的耗时，记录时只对一个桶做LongAdder累加，不加锁。
+ * 百分位数取所在桶的上界，误差不超过一倍
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for(int i=0;i<BUCKETS;i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次耗时
+     * @param nanos 耗时（纳秒），负数按0记录
+     */
+    public void record(long nanos) {
+        if(nanos < 0) {
+            nanos = 0;
+        }
+        buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * 清空记录
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * 返回当前记录的统计数据，并发记录时各数值之间可能略有出入
+     * @return 统计数据
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for(int i=0;i<BUCKETS;i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new Snapshot(count, total.sum(), max.get(), percentile(counts, count, 0.50),
+                percentile(counts, count, 0.99));
+    }
+
+    private static long percentile(long[] counts, long count, double quantile) {
+        if(count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * quantile);
+        long seen = 0;
+        for(int i=0;i<BUCKETS;i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                // 第i个桶的上界为2^i - 1，最后一个桶为Long.MAX_VALUE
+                return (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 直方图统计数据的快照，在JMX中显示为CompositeData
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+
+        Snapshot(long count, long totalNanos, long maxNanos, long p50Nanos, long p99Nanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return 平均耗时（纳秒），没有记录时为0
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * @return 中位数所在桶的上界（纳秒）
+         */
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        /**
+         * @return 99百分位数所在桶的上界（纳秒）
+         */
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("次数 %d，平均 %.0f ns，p50 ≤%d ns，p99 ≤%d ns，最大 %d ns",
+                    count, getMeanNanos(), p50Nanos, p99Nanos, maxNanos);
+        }
+    }
+}
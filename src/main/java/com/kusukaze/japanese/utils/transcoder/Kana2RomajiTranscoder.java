@@ -0,0 +1,119 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import com.kusukaze.japanese.utils.GojuuonzuUtils;
+import com.kusukaze.japanese.utils.constants.RomajiMapUtils;
+
+/**
+ * 将假名转化为罗马字的流式转换器<p>
+ * 规则同{@link com.kusukaze.japanese.utils.RomajiUtils#kana2Romaji(String)}，片假名逐字符转为平假名后处理。
+ * 读到一个字符时先保留，等下一个字符确定是否组成拗音；促音っ等到后面的假名转化后再决定写法。<p>
+ * 与整串转化的区别：kana2Romaji只处理位于中间结果前 n-1 个字符内的促音（n为输入长度），
+ * 靠后的促音写作xtu（如かっと写作kaxtuto）；流式输入无法预知总长度，所有促音都按后面的字母决定写法（かっと写作katto）
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class Kana2RomajiTranscoder extends KanaTranscoder {
+    // 等待与下一个字符组成拗音的字符
+    private boolean hasHeld;
+    private char held;
+    // 是否有尚未输出的促音
+    private boolean sokuon;
+    // 中间结果（促音和长音符号尚未替换时）的最后一个字符
+    private char last;
+
+    @Override
+    void accept(char ch, StringBuilder out) {
+        ch = GojuuonzuUtils.katakana2Hiragana(ch);
+        if(hasHeld) {
+            // 贪心匹配，优先匹配2个字符（拗音）
+            String pair = RomajiMapUtils.getRomajiByHiragana(held, ch);
+            if(pair != null) {
+                hasHeld = false;
+                appendRomaji(pair, out);
+                return;
+            }
+            appendSingle(held, out);
+        }
+        held = ch;
+        hasHeld = true;
+    }
+
+    @Override
+    void finish(StringBuilder out) {
+        if(hasHeld) {
+            hasHeld = false;
+            appendSingle(held, out);
+        }
+        if(sokuon) {
+            sokuon = false;
+            out.append("xtu");
+        }
+    }
+
+    @Override
+    void resetState() {
+        hasHeld = false;
+        sokuon = false;
+        last = 0;
+    }
+
+    /**
+     * 转化不与后一个字符组成拗音的字符；促音先不转化，无法转化的字符原样保留
+     */
+    private void appendSingle(char ch, StringBuilder out) {
+        String romaji = ch == 'っ' ? null : RomajiMapUtils.getRomajiByHiragana(ch);
+        if(romaji != null) {
+            appendRomaji(romaji, out);
+            return;
+        }
+        if(sokuon) {
+            appendSokuon(ch, out);
+        }
+        if(ch == 'っ') {
+            sokuon = true;
+        }
+        else {
+            sokuon = false;
+            out.append(ch == 'ー' ? '-' : ch);
+        }
+        last = ch;
+    }
+
+    private void appendRomaji(String romaji, StringBuilder out) {
+        // n+元音或y，加分隔符
+        boolean apostrophe = last == 'n' && "aeiouy".indexOf(romaji.charAt(0)) != -1;
+        if(sokuon) {
+            appendSokuon(apostrophe ? '\'' : romaji.charAt(0), out);
+            sokuon = false;
+        }
+        if(apostrophe) {
+            out.append('\'');
+        }
+        out.append(romaji);
+        last = romaji.charAt(romaji.length() - 1);
+    }
+
+    /**
+     * 输出促音：后面为c时写作t，为其他非元音的字母时双写该字母，否则写作xtu
+     * @param nextChar 中间结果中促音的下一个字符
+     */
+    private static void appendSokuon(char nextChar, StringBuilder out) {
+        if(nextChar == 'c') {
+            out.append('t');
+        }
+        else if(Character.isLetter(nextChar) && "aeiou".indexOf(nextChar) == -1) {
+            if(nextChar == 'ー') {
+                out.append('-');
+            }
+            else if(nextChar == 'っ') {
+                out.append("xtu");
+            }
+            else {
+                out.append(nextChar);
+            }
+        }
+        else {
+            out.append("xtu");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * 假名与罗马字之间的流式转换器，用法与{@link java.nio.charset.CharsetDecoder}相同<p>
+ * 输入可以任意分块，跨块尚未确定的内容（未读完的n、可能成为促音的重复辅音、尚未决定写法的促音等）保存在转换器内部。
+ * 典型用法：反复调用{@link #transcode(CharBuffer, CharBuffer, boolean)}，最后一块传入endOfInput=true，
+ * 再调用{@link #flush(CharBuffer)}直至返回{@link CoderResult#UNDERFLOW}；之后调用{@link #reset()}即可转换下一段文本。
+ * 转换器有状态，不是线程安全的
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public abstract class KanaTranscoder {
+    // 已转化但输出缓冲区放不下的内容
+    private final StringBuilder staged = new StringBuilder();
+    private int stagedStart;
+    private boolean ended;
+
+    // 仅由本包中的实现继承
+    KanaTranscoder() {}
+
+    /**
+     * 返回将罗马字转化为平假名的转换器，规则同{@link com.kusukaze.japanese.utils.RomajiUtils#romaji2Hiragana(String)}
+     * @return 新的转换器
+     */
+    public static KanaTranscoder romaji2Hiragana() {
+        return new Romaji2HiraganaTranscoder();
+    }
+
+    /**
+     * 返回将假名转化为罗马字的转换器，规则同{@link com.kusukaze.japanese.utils.RomajiUtils#kana2Romaji(String)}
+     * @return 新的转换器
+     */
+    public static KanaTranscoder kana2Romaji() {
+        return new Kana2RomajiTranscoder();
+    }
+
+    /**
+     * 转换in中剩余的字符，写入out<p>
+     * 返回{@link CoderResult#UNDERFLOW}时in已全部读完（尚未确定的部分留在转换器内）；
+     * 返回{@link CoderResult#OVERFLOW}时out已满，应清空out后以剩余的输入和相同的endOfInput再次调用
+     *
+     * @param in 输入
+     * @param out 输出
+     * @param endOfInput 之后是否不再有输入；为true时转换器在in读完后输出全部尚未确定的内容
+     * @return UNDERFLOW或OVERFLOW
+     */
+    public final CoderResult transcode(CharBuffer in, CharBuffer out, boolean endOfInput) {
+        // 与CharsetDecoder相同，输入结束后仍可以endOfInput=true再次调用，以写出剩余的内容
+        if(ended && !endOfInput) {
+            throw new IllegalStateException("输入已结束，需要先调用reset()");
+        }
+        while(true) {
+            if(!drain(out)) {
+                return CoderResult.OVERFLOW;
+            }
+            if(!in.hasRemaining()) {
+                break;
+            }
+            accept(in.get(), staged);
+        }
+        if(endOfInput) {
+            ended = true;
+            finish(staged);
+            if(!drain(out)) {
+                return CoderResult.OVERFLOW;
+            }
+        }
+        return CoderResult.UNDERFLOW;
+    }
+
+    /**
+     * 输出之前因out已满而未能写出的内容
+     *
+     * @param out 输出
+     * @return 全部写出时返回UNDERFLOW，out再次写满时返回OVERFLOW
+     */
+    public final CoderResult flush(CharBuffer out) {
+        return drain(out) ? CoderResult.UNDERFLOW : CoderResult.OVERFLOW;
+    }
+
+    /**
+     * 清除全部内部状态，以转换新的文本
+     * @return 本转换器
+     */
+    public final KanaTranscoder reset() {
+        staged.setLength(0);
+        stagedStart = 0;
+        ended = false;
+        resetState();
+        return this;
+    }
+
+    /**
+     * 读入一个字符，将已经确定的结果追加到out
+     */
+    abstract void accept(char ch, StringBuilder out);
+
+    /**
+     * 输入结束，将全部尚未确定的内容追加到out
+     */
+    abstract void finish(StringBuilder out);
+
+    /**
+     * 清除子类保存的状态
+     */
+    abstract void resetState();
+
+    /**
+     * 将staged尽量写入out
+     * @return 是否全部写出
+     */
+    private boolean drain(CharBuffer out) {
+        int length = staged.length();
+        if(stagedStart == length) {
+            return true;
+        }
+        int count = Math.min(out.remaining(), length - stagedStart);
+        for(int i=0;i<count;i++) {
+            out.put(staged.charAt(stagedStart + i));
+        }
+        stagedStart += count;
+        if(stagedStart < length) {
+            return false;
+        }
+        staged.setLength(0);
+        stagedStart = 0;
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import com.kusukaze.japanese.utils.constants.RomajiMapUtils;
+
+/**
+ * 将罗马字转化为平假名的流式转换器<p>
+ * 规则同{@link com.kusukaze.japanese.utils.RomajiUtils#romaji2Hiragana(String)}：逐字符用Character.toLowerCase转成小写
+ * （与语言环境和上下文无关，不改变长度）、将全角字母和空格转为半角，但不删除首尾空格（流式输入无法知道哪里是结尾）。
+ * 一次转化最多需要向后看5个字母，尚未能确定的字母保存在window中，跨块时继续匹配
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class Romaji2HiraganaTranscoder extends KanaTranscoder {
+    private static final int MAX_LOOKAHEAD = 5;
+    // 读满MAX_LOOKAHEAD个字母时总能转化开头的字母，因此每次读入后剩下的字母少于MAX_LOOKAHEAD
+    static final int MAX_PENDING = MAX_LOOKAHEAD - 1;
+
+    private final char[] window = new char[MAX_LOOKAHEAD];
+    private int count;
+
+    @Override
+    void accept(char ch, StringBuilder out) {
+        // 全角空格转半角
+        if(ch == 12288) {
+            ch = (char)32;
+        }
+        else {
+            ch = Character.toLowerCase(ch);
+            // 全角字母转半角
+            if(ch > 65280 && ch < 65375) {
+                ch = (char)(ch - 65248);
+            }
+        }
+        window[count++] = ch;
+        convert(out, false);
+    }
+
+    @Override
+    void finish(StringBuilder out) {
+        convert(out, true);
+    }
+
+    @Override
+    void resetState() {
+        count = 0;
+    }
+
+    /**
+     * 返回尚未能确定的字母数，每次读入后最多为{@link #MAX_PENDING}
+     */
+    int pendingLength() {
+        return count;
+    }
+
+    /**
+     * 将尚未能确定的字母复制到dest[offset]起
+     */
+    void copyPending(char[] dest, int offset) {
+        System.arraycopy(window, 0, dest, offset, count);
+    }
+
+    /**
+     * 以src[offset]起的length个字母替换尚未能确定的字母
+     */
+    void restorePending(char[] src, int offset, int length) {
+        System.arraycopy(src, offset, window, 0, length);
+        count = length;
+    }
+
+    /**
+     * 转化window中所有已经能够确定的字母
+     * @param end 输入是否已结束
+     */
+    private void convert(StringBuilder out, boolean end) {
+        while(count > 0) {
+            int consumed = convertFirst(out, end);
+            if(consumed == 0) {
+                return;
+            }
+            count -= consumed;
+            System.arraycopy(window, consumed, window, 0, count);
+        }
+    }
+
+    /**
+     * 转化window开头的字母
+     * @return 用掉的字符数，需要更多输入才能确定时返回0
+     */
+    private int convertFirst(StringBuilder out, boolean end) {
+        char ch = window[0];
+        // 处理非字母符号，其中单引号不保留，减号转化为长音符号，其余原样保留。
+        if(!Character.isLetter(ch)) {
+            if(ch == '-') {
+                out.append('ー');
+            }
+            else if(ch != '\'') {
+                out.append(ch);
+            }
+            return 1;
+        }
+        // 元音字母，转化当前的一个字母即可。
+        if(ch == 'a' || ch == 'e' || ch == 'i' || ch == 'o' || ch == 'u') {
+            out.append(RomajiMapUtils.getHiraganaByState(
+                    RomajiMapUtils.nextRomajiState(RomajiMapUtils.romajiInitialState(), ch)));
+            return 1;
+        }
+        // 辅音字母，重复两次且不为n，将当前字母转化为促音。tc也视为有效促音。
+        if(ch != 'n') {
+            if(count < 2 && !end) {
+                return 0;
+            }
+            if(count >= 2 && (ch == window[1] || (ch == 't' && window[1] == 'c'))) {
+                out.append('っ');
+                return 1;
+            }
+        }
+
+        // 辅音字母n取最多3个字母内最长的匹配，其余辅音取最多5个字母内最短的至少2个字母的匹配，遇到非字母时停止。
+        // 匹配失败则保留当前字母。
+        boolean longest = ch == 'n';
+        int maxLength = longest ? 3 : 5;
+        int state = RomajiMapUtils.nextRomajiState(RomajiMapUtils.romajiInitialState(), ch);
+        String hira = longest && state >= 0 ? RomajiMapUtils.getHiraganaByState(state) : null;
+        int matched = hira == null ? 0 : 1;
+        for(int j=1;j<maxLength && state >= 0;j++) {
+            if(j >= count) {
+                if(!end) {
+                    return 0;
+                }
+                break;
+            }
+            char chCurr = window[j];
+            if(!Character.isLetter(chCurr)) {
+                break;
+            }
+            state = RomajiMapUtils.nextRomajiState(state, chCurr);
+            String curr = state < 0 ? null : RomajiMapUtils.getHiraganaByState(state);
+            if(curr != null) {
+                hira = curr;
+                matched = j + 1;
+                if(!longest) {
+                    break;
+                }
+            }
+        }
+        if(hira == null) {
+            out.append(ch);
+            return 1;
+        }
+        out.append(hira);
+        return matched;
+    }
+}
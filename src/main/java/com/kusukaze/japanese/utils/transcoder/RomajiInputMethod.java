@@ -0,0 +1,163 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+/**
+ * 逐键输入的罗马字输入法：每次按键只转化新增的部分，返回相对上一次的变化<p>
+ * 转化规则同{@link com.kusukaze.japanese.utils.RomajiUtils#romaji2Hiragana(String)}，每次按键最多向后看5个字母，
+ * 与已输入的长度无关。已确定的假名为"已转化"，尚未能确定的字母（如单独的n、可能成为促音的重复辅音）为"待定罗马字"。
+ * 每次按键记录一条撤销记录，退格撤销最近一次按键：收回该次按键新增的假名，并恢复之前的待定罗马字。
+ * 撤销记录保存在固定大小的环中，只保留最近的若干次按键，更早的按键无法撤销，因此长时间输入时内存占用不会增长。<p>
+ * 全部按键输入后调用{@link #commit()}，已转化的内容与romaji2Hiragana对整串输入的结果相同，
+ * 只是不删除首尾空格。不是线程安全的
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class RomajiInputMethod {
+    /** 默认最多可以撤销的按键数 */
+    public static final int DEFAULT_HISTORY_SIZE = 256;
+    private static final int PENDING_STRIDE = Romaji2HiraganaTranscoder.MAX_PENDING;
+
+    private final Romaji2HiraganaTranscoder transcoder = new Romaji2HiraganaTranscoder();
+    private final StringBuilder converted = new StringBuilder();
+    // 撤销记录的环：按键前已转化的长度、按键前的待定罗马字（每条PENDING_STRIDE个字符）及其长度
+    private final int[] historyLength;
+    private final char[] historyPending;
+    private final byte[] historyPendingCount;
+    // 下一条记录的位置，以及环中的记录数
+    private int historyHead;
+    private int historySize;
+
+    /**
+     * 最多可以撤销{@link #DEFAULT_HISTORY_SIZE}次按键
+     */
+    public RomajiInputMethod() {
+        this(DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * @param historyCapacity 最多可以撤销的按键数
+     */
+    public RomajiInputMethod(int historyCapacity) {
+        if(historyCapacity < 1) {
+            throw new IllegalArgumentException("撤销记录数必须为正数：" + historyCapacity);
+        }
+        historyLength = new int[historyCapacity];
+        historyPending = new char[historyCapacity * PENDING_STRIDE];
+        historyPendingCount = new byte[historyCapacity];
+    }
+
+    /**
+     * 输入一个字符
+     *
+     * @param key 按键对应的字符，预处理同romaji2Hiragana（转成小写，全角字母和空格转为半角）
+     * @return 本次按键的变化，retracted始终为0
+     */
+    public Delta type(char key) {
+        int before = converted.length();
+        // 环已满时覆盖最早的记录
+        historyLength[historyHead] = before;
+        historyPendingCount[historyHead] = (byte) transcoder.pendingLength();
+        transcoder.copyPending(historyPending, historyHead * PENDING_STRIDE);
+        historyHead = (historyHead + 1) % historyLength.length;
+        if(historySize < historyLength.length) {
+            historySize++;
+        }
+        transcoder.accept(key, converted);
+        return new Delta(0, converted.substring(before), getPendingRomaji());
+    }
+
+    /**
+     * 撤销最近一次按键
+     *
+     * @return 本次退格的变化：收回的假名数和恢复后的待定罗马字；没有可撤销的按键（或已超出撤销记录数）时没有任何变化
+     */
+    public Delta backspace() {
+        if(historySize == 0) {
+            return new Delta(0, "", getPendingRomaji());
+        }
+        historyHead = (historyHead + historyLength.length - 1) % historyLength.length;
+        historySize--;
+        int length = historyLength[historyHead];
+        int retracted = converted.length() - length;
+        converted.setLength(length);
+        transcoder.restorePending(historyPending, historyHead * PENDING_STRIDE, historyPendingCount[historyHead]);
+        return new Delta(retracted, "", getPendingRomaji());
+    }
+
+    /**
+     * 结束输入：将待定罗马字按输入结束处理转化为假名，并清空撤销记录
+     *
+     * @return 本次的变化，待定罗马字为空
+     */
+    public Delta commit() {
+        int before = converted.length();
+        transcoder.finish(converted);
+        historyHead = 0;
+        historySize = 0;
+        return new Delta(0, converted.substring(before), "");
+    }
+
+    /**
+     * 清空全部输入
+     */
+    public void reset() {
+        converted.setLength(0);
+        transcoder.resetState();
+        historyHead = 0;
+        historySize = 0;
+    }
+
+    /**
+     * 返回已转化的假名
+     * @return 已转化的假名，不含待定罗马字
+     */
+    public String getConvertedText() {
+        return converted.toString();
+    }
+
+    /**
+     * 返回尚未能确定的罗马字
+     * @return 待定罗马字（已预处理）
+     */
+    public String getPendingRomaji() {
+        int length = transcoder.pendingLength();
+        if(length == 0) {
+            return "";
+        }
+        char[] pending = new char[length];
+        transcoder.copyPending(pending, 0);
+        return new String(pending);
+    }
+
+    /**
+     * 一次按键、退格或结束输入带来的变化：先删去已转化内容末尾的retracted个字符，再追加committed，
+     * 待定罗马字整体替换为pending
+     */
+    public static final class Delta {
+        private final int retracted;
+        private final String committed;
+        private final String pending;
+
+        Delta(int retracted, String committed, String pending) {
+            this.retracted = retracted;
+            this.committed = committed;
+            this.pending = pending;
+        }
+
+        public int getRetracted() {
+            return retracted;
+        }
+
+        public String getCommitted() {
+            return committed;
+        }
+
+        public String getPending() {
+            return pending;
+        }
+
+        @Override
+        public String toString() {
+            return "-" + retracted + " +" + committed + " [" + pending + "]";
+        }
+    }
+}
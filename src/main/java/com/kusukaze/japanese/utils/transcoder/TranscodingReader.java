@@ -0,0 +1,90 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * 读取时转换的Reader：从底层Reader分块读入，经{@link KanaTranscoder}转换后返回<p>
+ * 只使用固定大小的缓冲区，可以处理任意大的文件
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class TranscodingReader extends Reader {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final KanaTranscoder transcoder;
+    // 从底层读入、尚未转换的字符，处于读模式
+    private final CharBuffer input;
+    private boolean endOfInput;
+    private boolean flushed;
+
+    public TranscodingReader(Reader in, KanaTranscoder transcoder) {
+        this(in, transcoder, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param in 底层Reader
+     * @param transcoder 转换器，应为新建或已reset的转换器
+     * @param bufferSize 输入缓冲区大小
+     */
+    public TranscodingReader(Reader in, KanaTranscoder transcoder, int bufferSize) {
+        super(in);
+        if(bufferSize < 1) {
+            throw new IllegalArgumentException("缓冲区大小必须为正数：" + bufferSize);
+        }
+        this.in = in;
+        this.transcoder = transcoder;
+        this.input = CharBuffer.allocate(bufferSize);
+        this.input.flip();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            if(off < 0 || len < 0 || len > cbuf.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if(len == 0) {
+                return 0;
+            }
+            CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+            // 转换器可能暂时没有输出（如读入的内容全部尚未确定），此时继续读入
+            while(out.position() == off && !flushed) {
+                CoderResult result = transcoder.transcode(input, out, endOfInput);
+                if(result.isOverflow()) {
+                    break;
+                }
+                if(endOfInput) {
+                    flushed = true;
+                    break;
+                }
+                fill();
+            }
+            int count = out.position() - off;
+            return count == 0 ? -1 : count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            in.close();
+        }
+    }
+
+    private void fill() throws IOException {
+        input.compact();
+        try {
+            int count = in.read(input);
+            if(count < 0) {
+                endOfInput = true;
+            }
+        }
+        finally {
+            input.flip();
+        }
+    }
+}
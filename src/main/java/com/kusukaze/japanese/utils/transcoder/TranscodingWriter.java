@@ -0,0 +1,107 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * 写入时转换的Writer：写入的内容经{@link KanaTranscoder}转换后写到底层Writer<p>
+ * 只使用固定大小的缓冲区，可以处理任意大的文件。
+ * {@link #flush()}只能写出已经确定的内容，尚未确定的末尾（如单独的n、促音）在{@link #close()}时写出
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public class TranscodingWriter extends Writer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Writer out;
+    private final KanaTranscoder transcoder;
+    // 已转换、尚未写到底层的字符，处于写模式
+    private final CharBuffer output;
+    private boolean closed;
+
+    public TranscodingWriter(Writer out, KanaTranscoder transcoder) {
+        this(out, transcoder, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param out 底层Writer
+     * @param transcoder 转换器，应为新建或已reset的转换器
+     * @param bufferSize 输出缓冲区大小
+     */
+    public TranscodingWriter(Writer out, KanaTranscoder transcoder, int bufferSize) {
+        super(out);
+        if(bufferSize < 1) {
+            throw new IllegalArgumentException("缓冲区大小必须为正数：" + bufferSize);
+        }
+        this.out = out;
+        this.transcoder = transcoder;
+        this.output = CharBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            transcode(CharBuffer.wrap(cbuf, off, len), false);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            transcode(CharBuffer.wrap(str, off, off + len), false);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            writeOutput();
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            try {
+                transcode(CharBuffer.allocate(0), true);
+                writeOutput();
+            }
+            finally {
+                out.close();
+            }
+        }
+    }
+
+    private void transcode(CharBuffer in, boolean endOfInput) throws IOException {
+        while(true) {
+            CoderResult result = transcoder.transcode(in, output, endOfInput);
+            if(result.isUnderflow()) {
+                return;
+            }
+            writeOutput();
+        }
+    }
+
+    private void writeOutput() throws IOException {
+        if(output.position() > 0) {
+            out.write(output.array(), output.arrayOffset(), output.position());
+            output.clear();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if(closed) {
+            throw new IOException("Writer已关闭");
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package com.kusukaze.japanese.yougen;
 
+import com.kusukaze.japanese.utils.metrics.FormMetrics;
+import com.kusukaze.japanese.utils.metrics.JavaVerbMetrics;
+
 /**
  * 形容词类（继承用言类）
  * @author Hanatsuki Kokome
  * @since 2024-09-20
  */
 public class Adjective implements Yougen {
-    private String name;
-    public Adjective() {super();}
+    // 变形结果缓存中使用的变形编号
+    private static final int TE = 0;
+    private static final int NAI = 1;
+    private static final int DESU = 2;
+    private static final int TA = 3;
+    private static final int BA = 4;
+    private static final int VOLITIONAL = 5;
+    private static final int ZU = 6;
+    // 各变形的调用统计，名称的顺序与上面的编号一致
+    private static final FormMetrics METRICS = JavaVerbMetrics.forms("Adjective", "TE", "NAI", "DESU", "TA", "BA", "VOLITIONAL", "ZU");
+
+    private final String name;
+    public Adjective() {
+        super();
+        name = null;
+    }
 
     public Adjective(String adjectiveName) {
         name = adjectiveName;
@@ -36,12 +53,12 @@ public class Adjective implements Yougen {
     }
     @Override
     public String teForm() {
-        return adjectiveUtil("くて");
+        return ConjugationCache.get(this, null, TE, METRICS, word -> word.adjectiveUtil("くて"));
     }
 
     @Override
     public String naiForm() {
-        return adjectiveUtil("くない");
+        return ConjugationCache.get(this, null, NAI, METRICS, word -> word.adjectiveUtil("くない"));
     }
 
     /**
@@ -49,6 +66,10 @@ public class Adjective implements Yougen {
      * @return 变为です形后的字符串
      */
     public String desuForm() {
+        return ConjugationCache.get(this, null, DESU, METRICS, Adjective::computeDesuForm);
+    }
+
+    private String computeDesuForm() {
         if(name == null || name.length() < 2 || !name.endsWith("い")) {
             return null;
         }
@@ -62,7 +83,7 @@ public class Adjective implements Yougen {
 
     @Override
     public String taForm() {
-        return adjectiveUtil("かった");
+        return ConjugationCache.get(this, null, TA, METRICS, word -> word.adjectiveUtil("かった"));
     }
 
     /**
@@ -70,7 +91,7 @@ public class Adjective implements Yougen {
      * @return 变为ば形后的字符串
      */
     public String baForm() {
-        return adjectiveUtil("ければ");
+        return ConjugationCache.get(this, null, BA, METRICS, word -> word.adjectiveUtil("ければ"));
     }
 
     /**
@@ -78,7 +99,7 @@ public class Adjective implements Yougen {
      * @return 变为推量形后的字符串
      */
     public String volitionalForm() {
-        return adjectiveUtil("かろう");
+        return ConjugationCache.get(this, null, VOLITIONAL, METRICS, word -> word.adjectiveUtil("かろう"));
     }
 
     /**
@@ -86,6 +107,6 @@ public class Adjective implements Yougen {
      * @return 变为ず形后的字符串
      */
     public String zuForm() {
-        return adjectiveUtil("からず");
+        return ConjugationCache.get(this, null, ZU, METRICS, word -> word.adjectiveUtil("からず"));
     }
 }
@@ -1,13 +1,28 @@
 package com.kusukaze.japanese.yougen;
 
+import com.kusukaze.japanese.utils.metrics.FormMetrics;
+import com.kusukaze.japanese.utils.metrics.JavaVerbMetrics;
+
 /**
  * 形容动词类（继承用言类）
  * @author Hanatsuki Kokome
  * @since 2024-09-27
  */
 public class AdjectiveNoun implements Yougen {
-    private String name;
-    public AdjectiveNoun() {super();}
+    // 变形结果缓存中使用的变形编号
+    private static final int TE = 0;
+    private static final int NAI = 1;
+    private static final int DESU = 2;
+    private static final int TA = 3;
+    private static final int ZU = 4;
+    // 各变形的调用统计，名称的顺序与上面的编号一致
+    private static final FormMetrics METRICS = JavaVerbMetrics.forms("AdjectiveNoun", "TE", "NAI", "DESU", "TA", "ZU");
+
+    private final String name;
+    public AdjectiveNoun() {
+        super();
+        name = null;
+    }
 
     public AdjectiveNoun(String adjectiveNounName) {
         name = adjectiveNounName;
@@ -31,12 +46,12 @@ public class AdjectiveNoun implements Yougen {
 
     @Override
     public String teForm() {
-        return adjectiveNounUtil("で");
+        return ConjugationCache.get(this, null, TE, METRICS, word -> word.adjectiveNounUtil("で"));
     }
 
     @Override
     public String naiForm() {
-        return adjectiveNounUtil("ではない");
+        return ConjugationCache.get(this, null, NAI, METRICS, word -> word.adjectiveNounUtil("ではない"));
     }
 
     /**
@@ -44,7 +59,7 @@ public class AdjectiveNoun implements Yougen {
      * @return 变为です形后的字符串
      */
     public String desuForm() {
-        return adjectiveNounUtil("です");
+        return ConjugationCache.get(this, null, DESU, METRICS, word -> word.adjectiveNounUtil("です"));
     }
 
     @Override
@@ -54,7 +69,7 @@ public class AdjectiveNoun implements Yougen {
 
     @Override
     public String taForm() {
-        return adjectiveNounUtil("だった");
+        return ConjugationCache.get(this, null, TA, METRICS, word -> word.adjectiveNounUtil("だった"));
     }
 
     /**
@@ -62,6 +77,6 @@ public class AdjectiveNoun implements Yougen {
      * @return 变为ず形后的字符串
      */
     public String zuForm() {
-        return adjectiveNounUtil("ならず");
+        return ConjugationCache.get(this, null, ZU, METRICS, word -> word.adjectiveNounUtil("ならず"));
     }
 }
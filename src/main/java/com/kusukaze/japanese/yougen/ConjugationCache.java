@@ -0,0 +1,147 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.cache.BoundedCache;
+import com.kusukaze.japanese.utils.cache.CacheStats;
+import com.kusukaze.japanese.utils.metrics.ConjugationEvent;
+import com.kusukaze.japanese.utils.metrics.FlightRecorderEvents;
+import com.kusukaze.japanese.utils.metrics.FormMetrics;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 变形结果缓存<p>
+ * 默认关闭。开启后，动词、形容词、形容动词返回字符串的各变形方法会先查询缓存，
+ * 以（类，单词，动词类型，变形种类）为键，命中时只需一次哈希查找。
+ * 可以在启动时用系统属性java-verb.conjugation-cache.size指定容量以开启缓存，或调用{@link #enable(int)}。
+ * 写入StringBuilder的appendForm不经过缓存
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class ConjugationCache {
+    /** 指定缓存容量的系统属性，大于0时启动即开启缓存 */
+    public static final String SIZE_PROPERTY = "java-verb.conjugation-cache.size";
+
+    // 缓存不能保存null，无法变形的结果以此代替（按引用比较）
+    private static final String NO_RESULT = new String("");
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final BiFunction<Key,Object,String> LOADER = (key, word) -> {
+        String value = (String) ((Function) key.compute).apply(word);
+        return value == null ? NO_RESULT : value;
+    };
+
+    private static volatile BoundedCache<Key,String> cache;
+
+    static {
+        int size = Integer.getInteger(SIZE_PROPERTY, 0);
+        if(size > 0) {
+            cache = new BoundedCache<>(size);
+        }
+    }
+
+    private ConjugationCache() {}
+
+    /**
+     * 开启缓存；已开启时以新的容量重建缓存
+     *
+     * @param capacity 最多缓存的变形结果数
+     */
+    public static void enable(int capacity) {
+        cache = new BoundedCache<>(capacity);
+    }
+
+    /**
+     * 关闭缓存并释放缓存的结果
+     */
+    public static void disable() {
+        cache = null;
+    }
+
+    /**
+     * 判断缓存是否开启
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 返回缓存的统计数据
+     * @return 命中、未命中、淘汰次数等，缓存关闭时全部为0
+     */
+    public static CacheStats stats() {
+        BoundedCache<Key,String> current = cache;
+        return current == null ? new CacheStats(0, 0, 0, 0, 0) : current.stats();
+    }
+
+    /**
+     * 查询变形结果，缓存关闭或未命中时调用compute计算
+     *
+     * @param word 单词
+     * @param verbType 动词类型，非动词为null
+     * @param form 变形种类的编号，在同一个类中唯一
+     * @param metrics 该类的变形统计，无论是否命中缓存都记录一次调用，并产生一个JFR变形事件
+     * @param compute 计算变形的函数，应为不捕获变量的静态函数
+     * @return 变形结果，无法变形时为null
+     */
+    static <T extends Yougen> String get(T word, String verbType, int form, FormMetrics metrics,
+                                         Function<? super T, String> compute) {
+        ConjugationEvent event = FlightRecorderEvents.beginConjugation();
+        BoundedCache<Key,String> current = cache;
+        String name = word.getName();
+        String value;
+        if(current == null || name == null) {
+            value = compute.apply(word);
+        }
+        else {
+            value = current.get(new Key(word.getClass(), name, verbType, form, compute), word, LOADER);
+            if(value == NO_RESULT) {
+                value = null;
+            }
+        }
+        metrics.record(form, value != null);
+        if(event != null) {
+            int verbClass = word instanceof Verb ? ((Verb) word).getVerbClass().ordinal() : -1;
+            event.finish(metrics, form, verbClass, name, value != null);
+        }
+        return value;
+    }
+
+    private static final class Key {
+        final Class<?> kind;
+        final String name;
+        final String verbType;
+        final int form;
+        // 仅用于未命中时计算，不参与比较
+        final Function<?, String> compute;
+        final int hash;
+
+        Key(Class<?> kind, String name, String verbType, int form, Function<?, String> compute) {
+            this.kind = kind;
+            this.name = name;
+            this.verbType = verbType;
+            this.form = form;
+            this.compute = compute;
+            int h = name.hashCode() * 31 + form;
+            this.hash = verbType == null ? h : h * 31 + verbType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hash == that.hash && form == that.form && kind == that.kind && name.equals(that.name)
+                    && (verbType == null ? that.verbType == null : verbType.equals(that.verbType));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.GojuuonzuUtils;
+
+/**
+ * 变形规则：对词干的操作 + 后缀<p>
+ * 由{@link VerbClass}按（动词分类，变形种类）组成规则表，变形时只需查表后执行一条规则
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+final class ConjugationRule {
+    /** 无法变形 */
+    static final int NONE = 0;
+    /** 固定结果，不使用动词本身 */
+    static final int CONSTANT = 1;
+    /** 保留整个动词 */
+    static final int KEEP = 2;
+    /** 去掉最后一个字 */
+    static final int DROP_ONE = 3;
+    /** 去掉最后两个字 */
+    static final int DROP_TWO = 4;
+    /** 将最后一个假名改为kana段 */
+    static final int CHANGE_DAN = 5;
+    /** 来る：写作くる时将く改为kana，写作汉字时去掉る */
+    static final int KURU = 6;
+    /** 一类动词て形：按最后一个假名选择后缀 */
+    static final int GODAN_TE = 7;
+    /** 一类动词た形：按最后一个假名选择后缀 */
+    static final int GODAN_TA = 8;
+    /** 古语-二段动词命令形：以呉る结尾时改为呉れ，否则使用fallback */
+    static final int KURE = 9;
+
+    static final ConjugationRule UNSUPPORTED = new ConjugationRule(NONE, "", '\0', null);
+
+    final int operation;
+    final String suffix;
+    final char kana;
+    final ConjugationRule fallback;
+
+    ConjugationRule(int operation, String suffix, char kana, ConjugationRule fallback) {
+        this.operation = operation;
+        this.suffix = suffix;
+        this.kana = kana;
+        this.fallback = fallback;
+    }
+
+    static ConjugationRule of(int operation, String suffix) {
+        return new ConjugationRule(operation, suffix, '\0', null);
+    }
+
+    static ConjugationRule of(int operation, String suffix, char kana) {
+        return new ConjugationRule(operation, suffix, kana, null);
+    }
+
+    /**
+     * 返回同一规则对应的た形规则（将后缀最后的て、で改为た、だ）
+     */
+    ConjugationRule toPast() {
+        switch (operation) {
+            case NONE:
+                return this;
+            case GODAN_TE:
+                return new ConjugationRule(GODAN_TA, suffix, kana, null);
+            default:
+                String past = suffix.endsWith("て") ? suffix.substring(0, suffix.length() - 1) + "た"
+                        : suffix.endsWith("で") ? suffix.substring(0, suffix.length() - 1) + "だ" : null;
+                return past == null ? UNSUPPORTED : new ConjugationRule(operation, past, kana,
+                        fallback == null ? null : fallback.toPast());
+        }
+    }
+
+    /**
+     * 将name按此规则变形后追加到out末尾
+     *
+     * @return 是否追加成功；无法变形时返回false，out不变
+     */
+    boolean append(CharSequence name, StringBuilder out) {
+        int n = name.length();
+        switch (operation) {
+            case NONE:
+                return false;
+            case CONSTANT:
+                break;
+            case KEEP:
+                out.append(name);
+                break;
+            case DROP_ONE:
+                out.append(name, 0, n-1);
+                break;
+            case DROP_TWO:
+                out.append(name, 0, n-2);
+                break;
+            case CHANGE_DAN:
+                out.append(name, 0, n-1).append(GojuuonzuUtils.toSpecificDanChar(name.charAt(n-1), kana));
+                break;
+            case KURU:
+                if(name.charAt(n-2) != 'く') {
+                    out.append(name, 0, n-1);
+                }
+                else {
+                    out.append(name, 0, n-2).append(kana);
+                }
+                break;
+            case GODAN_TE:
+            case GODAN_TA:
+                String godanSuffix = godanTeSuffix(name.charAt(n-1), operation == GODAN_TA);
+                if(godanSuffix == null) {
+                    return false;
+                }
+                out.append(name, 0, n-1).append(godanSuffix);
+                return true;
+            case KURE:
+                if(n >= 2 && name.charAt(n-2) == '呉' && name.charAt(n-1) == 'る') {
+                    out.append(name, 0, n-1);
+                    break;
+                }
+                return fallback.append(name, out);
+            default:
+                throw new IllegalStateException("未知的变形操作：" + operation);
+        }
+        out.append(suffix);
+        return true;
+    }
+
+    private static String godanTeSuffix(char last, boolean past) {
+        switch (last) {
+            case 'る': case 'つ': case 'う':
+                return past ? "った" : "って";
+            case 'ぶ': case 'ぬ': case 'む':
+                return past ? "んだ" : "んで";
+            case 'す':
+                return past ? "した" : "して";
+            case 'く':
+                return past ? "いた" : "いて";
+            case 'ぐ':
+                return past ? "いだ" : "いで";
+            default:
+                return null;
+        }
+    }
+}
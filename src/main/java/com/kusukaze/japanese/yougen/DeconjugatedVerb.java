@@ -0,0 +1,84 @@
+package com.kusukaze.japanese.yougen;
+
+import java.util.Objects;
+
+/**
+ * 还原结果：变形后的动词对应的原形、类型和变形种类<p>
+ * 可能、被动、使役、使役被动形式本身是二类动词，可以继续变形（如「食べさせられた」），
+ * 此时{@link #getInflection()}为在其基础上的变形，否则为null
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class DeconjugatedVerb {
+    private final String lemma;
+    private final String verbType;
+    private final VerbForm form;
+    private final VerbForm inflection;
+
+    public DeconjugatedVerb(String lemma, String verbType, VerbForm form) {
+        this(lemma, verbType, form, null);
+    }
+
+    public DeconjugatedVerb(String lemma, String verbType, VerbForm form, VerbForm inflection) {
+        this.lemma = lemma;
+        this.verbType = verbType;
+        this.form = form;
+        this.inflection = inflection;
+    }
+
+    /**
+     * 返回动词原形（字典中的写法）
+     * @return 动词原形
+     */
+    public String getLemma() {
+        return lemma;
+    }
+
+    /**
+     * 返回动词类型
+     * @return 动词类型
+     */
+    public String getVerbType() {
+        return verbType;
+    }
+
+    /**
+     * 返回变形种类
+     * @return 变形种类
+     */
+    public VerbForm getForm() {
+        return form;
+    }
+
+    /**
+     * 返回在派生动词基础上的再次变形
+     * @return 再次变形的种类，没有时为null
+     */
+    public VerbForm getInflection() {
+        return inflection;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof DeconjugatedVerb)) {
+            return false;
+        }
+        DeconjugatedVerb that = (DeconjugatedVerb) o;
+        return lemma.equals(that.lemma) && verbType.equals(that.verbType)
+                && form == that.form && inflection == that.inflection;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lemma, verbType, form, inflection);
+    }
+
+    @Override
+    public String toString() {
+        return lemma + "（" + verbType + "）[" + form.getDisplayName()
+                + (inflection == null ? "" : " → " + inflection.getDisplayName()) + "]";
+    }
+}
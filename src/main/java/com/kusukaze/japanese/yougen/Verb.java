@@ -1,133 +1,217 @@
 package com.kusukaze.japanese.yougen;
 
 import com.kusukaze.japanese.utils.DictionaryUtils;
-import com.kusukaze.japanese.utils.GojuuonzuUtils;
-import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
-import com.kusukaze.japanese.utils.constants.VerbTypeConstants;
+import com.kusukaze.japanese.utils.cache.BoundedCache;
+import com.kusukaze.japanese.utils.cache.CacheStats;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.utils.metrics.ConjugationEvent;
+import com.kusukaze.japanese.utils.metrics.FlightRecorderEvents;
+import com.kusukaze.japanese.utils.metrics.FormMetrics;
+import com.kusukaze.japanese.utils.metrics.JavaVerbMetrics;
+
+import java.io.IOException;
+import java.util.function.Function;
 
 /**
- * 动词类（继承用言类）
+ * 动词类（继承用言类）<p>
+ * 新建时将字典中的类型解析为{@link VerbClass}，变形规则见VerbClass的规则表。
+ * 各变形方法返回新的字符串；需要避免分配时，可以用appendForm直接写入调用方提供的StringBuilder或Appendable
  * @author Hanatsuki Kokome
  * @since 2024-09-20
  */
 public class Verb implements Yougen {
-    private String name;
-    private String verbType;
-    public Verb() {super();}
+    // 写入Appendable时使用的缓冲区
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    /** 指定Verb.of缓存容量的系统属性 */
+    public static final String CACHE_SIZE_PROPERTY = "java-verb.verb-cache.size";
+    private static final BoundedCache<String,Verb> CACHE =
+            new BoundedCache<>(Integer.getInteger(CACHE_SIZE_PROPERTY, 4096));
+    // 各变形的计算函数，供变形结果缓存未命中时调用
+    @SuppressWarnings("unchecked")
+    private static final Function<Verb,String>[] FORM_FUNCTIONS =
+            (Function<Verb,String>[]) new Function<?,?>[VerbForm.values().length];
+
+    // 各变形的调用统计，变形编号为VerbForm的序号
+    private static final FormMetrics METRICS;
+
+    static {
+        String[] formNames = new String[FORM_FUNCTIONS.length];
+        for (VerbForm form : VerbForm.values()) {
+            FORM_FUNCTIONS[form.ordinal()] = verb -> verb.computeForm(form);
+            formNames[form.ordinal()] = form.name();
+        }
+        METRICS = JavaVerbMetrics.forms("Verb", formNames);
+    }
+
+    // 缓存中的动词类型来自此字典，字典重新加载后清空缓存
+    private static volatile VerbDictionary cacheDictionary;
+
+    private final String name;
+    private final String verbType;
+    // 由verbType解析得到，决定使用的变形规则
+    private final VerbClass verbClass;
+    public Verb() {
+        super();
+        name = null;
+        verbType = null;
+        verbClass = VerbClass.UNKNOWN;
+    }
     public Verb(String verbName) {
         name = verbName;
         verbType = DictionaryUtils.getVerbType(verbName);
+        verbClass = VerbClass.of(verbType);
+    }
+
+    /**
+     * 以指定的类型新建动词，不查询字典
+     * @param verbName 动词
+     * @param verbType 动词类型，即字典中的类型（见VerbTypeConstants）
+     */
+    public Verb(String verbName, String verbType) {
+        name = verbName;
+        this.verbType = verbType;
+        verbClass = VerbClass.of(verbType);
+    }
+
+    /**
+     * 返回动词，结果与{@code new Verb(verbName)}相同<p>
+     * Verb不可变，常用的动词会被缓存复用，避免重复查询字典；缓存容量由系统属性java-verb.verb-cache.size指定，默认4096
+     *
+     * @param verbName 动词
+     * @return 动词
+     */
+    public static Verb of(String verbName) {
+        if(verbName == null) {
+            return new Verb(null);
+        }
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        if(cacheDictionary != dictionary) {
+            synchronized (CACHE) {
+                if(cacheDictionary != dictionary) {
+                    CACHE.clear();
+                    cacheDictionary = dictionary;
+                }
+            }
+        }
+        return CACHE.get(verbName, Verb::new);
+    }
+
+    /**
+     * 返回Verb.of缓存的统计数据
+     * @return 命中、未命中、淘汰次数等
+     */
+    public static CacheStats cacheStats() {
+        return CACHE.stats();
     }
 
     @Override
     public String getName() {
         return name;
     }
+
     /**
-     * 动词的通用工具函数
-     * @param specificDan 一类动词最后的假名需要变为哪一段
-     * @param godanSuffix 一类动词后缀
-     * @param ichidanSuffix 二类动词后缀
-     * @param suruSuffix する后缀
-     * @param kuruSuffix 来る后缀
-     * @param kuruNewKana 来る写作假名くる时，く对应的新假名
-     * @return 变化后的字符串
+     * 返回此动词的类型
+     * @return 动词类型，未在字典中找到时为null
      */
-    private String verbUtil(char specificDan,String godanSuffix,String ichidanSuffix,
-                            String suruSuffix,String kuruSuffix,char kuruNewKana) {
-        if(verbType == null) {
-            return null;
-        }
-        int n = name.length();
+    public String getVerbType() {
+        return verbType;
+    }
 
-        // 一类动词：将最后一个假名改为specificDan段，并添加后缀godanSuffix
-        if(verbType.startsWith(VerbTypeConstants.GODAN)) {
-            return name.substring(0,n-1) +
-                    GojuuonzuUtils.toSpecificDan(name.charAt(n-1),specificDan) + godanSuffix;
-        }
-        // 二类动词：去掉最后的假名る，并添加后缀ichidanSuffix
-        if(verbType.startsWith(VerbTypeConstants.ICHIDAN)) {
-            return name.substring(0,n-1) + ichidanSuffix;
-        }
-        // する：去掉最后的する，并添加后缀suruSuffix
-        if(verbType.startsWith(VerbTypeConstants.SURU)) {
-            return name.substring(0,n-2) + suruSuffix;
-        }
-        // 来る：去掉最后的くる，并添加kuruNewKana和后缀kuruSuffix。若写作汉字 来る，则直接去る加后缀
-        if(verbType.startsWith(VerbTypeConstants.KURU)) {
-            char lastButOneChar = name.charAt(n-2);
-            if(lastButOneChar != 'く') {
-                return name.substring(0,n-1) + kuruSuffix;
-            }
-            return name.substring(0,n-2) + kuruNewKana + kuruSuffix;
+    /**
+     * 返回此动词的分类
+     * @return 动词分类，没有对应变形规则时为VerbClass.UNKNOWN
+     */
+    public VerbClass getVerbClass() {
+        return verbClass;
+    }
+
+    /**
+     * 将此动词的指定变形追加到out末尾，不产生中间对象
+     *
+     * @param form 变形种类
+     * @param out 输出
+     * @return 是否追加成功；无法变形时返回false，out不变
+     */
+    public boolean appendForm(VerbForm form, StringBuilder out) {
+        ConjugationEvent event = FlightRecorderEvents.beginConjugation();
+        boolean converted = verbClass.appendForm(name, form, out);
+        METRICS.record(form.ordinal(), converted);
+        if(event != null) {
+            event.finish(METRICS, form.ordinal(), verbClass.ordinal(), name, converted);
         }
-        // 古语-ずる：转化为じる，再视为二类动词
-        if(verbType.startsWith(VerbTypeConstants.ZURU)) {
-            return name.substring(0,n-2) + "じ" + ichidanSuffix;
+        return converted;
+    }
+
+    /**
+     * 将此动词的指定变形追加到out末尾<p>
+     * 变形先写入线程内复用的缓冲区，再整体追加到out
+     *
+     * @param form 变形种类
+     * @param out 输出
+     * @return 是否追加成功；无法变形时返回false，out不变
+     * @throws IOException 写入out失败
+     */
+    public boolean appendForm(VerbForm form, Appendable out) throws IOException {
+        if(out instanceof StringBuilder) {
+            return appendForm(form, (StringBuilder) out);
         }
-        // 古语-上二段：将最后一个假名改为い段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
-        if(verbType.startsWith(VerbTypeConstants.NIDAN) && verbType.endsWith("k")) {
-            return name.substring(0,n-1) +
-                    GojuuonzuUtils.toSpecificDan(name.charAt(n-1),'い') + ichidanSuffix;
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        ConjugationEvent event = FlightRecorderEvents.beginConjugation();
+        boolean converted = verbClass.appendForm(name, form, buffer);
+        METRICS.record(form.ordinal(), converted);
+        if(event != null) {
+            event.finish(METRICS, form.ordinal(), verbClass.ordinal(), name, converted);
         }
-        // 古语-下二段：将最后一个假名改为え段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
-        if(verbType.startsWith(VerbTypeConstants.NIDAN) && verbType.endsWith("s")) {
-            return name.substring(0,n-1) +
-                    GojuuonzuUtils.toSpecificDan(name.charAt(n-1),'え') + ichidanSuffix;
+        if(!converted) {
+            return false;
         }
-        return null;
+        out.append(buffer);
+        return true;
     }
-    @Override
-    public String teForm() {
-        if(verbType == null) {
-            return null;
-        }
-        int n = name.length();
 
-        // 行く
-        if(verbType.equals(VerbTypeConstants.IKU)) {
-            return name.substring(0,n-1) + "って";
-        }
-        // 問う
-        if(verbType.equals(VerbTypeConstants.TOU)) {
-            return name + "て";
+    /**
+     * 将动词的指定变形追加到out末尾，不产生中间对象
+     *
+     * @param verbName 动词，可以是任意CharSequence
+     * @param verbType 动词类型，即字典中的类型（见VerbTypeConstants）
+     * @param form 变形种类
+     * @param out 输出
+     * @return 是否追加成功；无法变形时返回false，out不变
+     */
+    public static boolean appendForm(CharSequence verbName, String verbType, VerbForm form, StringBuilder out) {
+        ConjugationEvent event = FlightRecorderEvents.beginConjugation();
+        VerbClass verbClass = VerbClass.of(verbType);
+        boolean converted = verbClass.appendForm(verbName, form, out);
+        METRICS.record(form.ordinal(), converted);
+        if(event != null) {
+            event.finish(METRICS, form.ordinal(), verbClass.ordinal(), verbName, converted);
         }
-        // 一类动词
-        if(verbType.startsWith(VerbTypeConstants.GODAN)) {
-            char last = name.charAt(n-1);   // 判断动词结尾
-            if(last == 'る' || last == 'つ' || last == 'う') {
-                return name.substring(0,n-1) + "って";
-            }
-            if(last == 'ぶ' || last == 'ぬ' || last == 'む') {
-                return name.substring(0,n-1) + "んで";
-            }
-            if(last == 'す') {
-                return name.substring(0,n-1) + "して";
-            }
-            if(last == 'く') {
-                return name.substring(0,n-1) + "いて";
-            }
-            if(last == 'ぐ') {
-                return name.substring(0,n-1) + "いで";
-            }
+        return converted;
+    }
+
+    private String form(VerbForm form) {
+        if(verbClass == VerbClass.UNKNOWN) {
+            METRICS.record(form.ordinal(), false);
             return null;
         }
-        // 其余类型处理。因为已经处理过一类动词，所以前两个参数无影响
-        return verbUtil('　',"","て","して","て",'き');
+        return ConjugationCache.get(this, verbType, form.ordinal(), METRICS, FORM_FUNCTIONS[form.ordinal()]);
+    }
+
+    private String computeForm(VerbForm form) {
+        StringBuilder out = new StringBuilder(name.length() + 8);
+        return verbClass.appendForm(name, form, out) ? out.toString() : null;
     }
 
     @Override
-    public String naiForm() {
-        if(verbType == null) {
-            return null;
-        }
-        int n = name.length();
+    public String teForm() {
+        return form(VerbForm.TE);
+    }
 
-        // ある
-        if(verbType.equals(VerbTypeConstants.ARU)) {
-            return name.substring(0,n-2) + "ない";
-        }
-        return verbUtil('あ',"ない","ない","しない","ない",'こ');
+    @Override
+    public String naiForm() {
+        return form(VerbForm.NAI);
     }
 
     /**
@@ -135,16 +219,7 @@ public class Verb implements Yougen {
      * @return 变为ます形后的字符串
      */
     public String masuForm() {
-        if(verbType == null) {
-            return null;
-        }
-        int n = name.length();
-
-        // くださる
-        if(verbType.equals(VerbTypeConstants.KUDASARU)) {
-            return name.substring(0,n-1) + "います";
-        }
-        return verbUtil('い',"ます","ます","します","ます",'き');
+        return form(VerbForm.MASU);
     }
 
     @Override
@@ -154,19 +229,7 @@ public class Verb implements Yougen {
 
     @Override
     public String taForm() {
-        String teVerb = teForm();
-        if(teVerb == null) {
-            return null;
-        }
-        int n = teVerb.length();
-        char lastChar = teVerb.charAt(n-1);
-        if(lastChar == 'て') {
-            return teVerb.substring(0,n-1) + "た";
-        }
-        if(lastChar == 'で') {
-            return teVerb.substring(0,n-1) + "だ";
-        }
-        return null;
+        return form(VerbForm.TA);
     }
 
     /**
@@ -174,7 +237,7 @@ public class Verb implements Yougen {
      * @return 变为ば形后的字符串
      */
     public String baForm() {
-        return verbUtil('え',"ば","れば","すれば","れば",'く');
+        return form(VerbForm.BA);
     }
 
     /**
@@ -182,7 +245,7 @@ public class Verb implements Yougen {
      * @return 变为意志形后的字符串
      */
     public String volitionalForm() {
-        return verbUtil('お',"う","よう","しよう","よう",'こ');
+        return form(VerbForm.VOLITIONAL);
     }
 
     /**
@@ -190,23 +253,7 @@ public class Verb implements Yougen {
      * @return 变为命令形后的字符串
      */
     public String imperativeForm() {
-        if(verbType == null) {
-            return null;
-        }
-        int n = name.length();
-        // くださる
-        if(verbType.equals(VerbTypeConstants.KUDASARU)) {
-            return name.substring(0,n-1) + "い";
-        }
-        // くれる
-        if(verbType.equals(VerbTypeConstants.KURERU)) {
-            return name.substring(0,n-1);
-        }
-        // 古语-二段动词 呉る
-        if(verbType.startsWith(VerbTypeConstants.NIDAN) && name.endsWith("呉る")) {
-            return name.substring(0,n-1) + "れ";
-        }
-        return verbUtil('え',"","ろ","しろ","い",'こ');
+        return form(VerbForm.IMPERATIVE);
     }
 
     /**
@@ -214,11 +261,7 @@ public class Verb implements Yougen {
      * @return 变为可能形式后的字符串
      */
     public String potentialForm() {
-        // 察する
-        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
-            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
-        }
-        return verbUtil('え',"る","られる","できる","られる",'こ');
+        return form(VerbForm.POTENTIAL);
     }
 
     /**
@@ -226,11 +269,7 @@ public class Verb implements Yougen {
      * @return 变为被动形式后的字符串
      */
     public String passiveForm() {
-        // 察する
-        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
-            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
-        }
-        return verbUtil('あ',"れる","られる","される","られる",'こ');
+        return form(VerbForm.PASSIVE);
     }
 
     /**
@@ -238,11 +277,7 @@ public class Verb implements Yougen {
      * @return 变为使役形式后的字符串
      */
     public String causativeForm() {
-        // 察する
-        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
-            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
-        }
-        return verbUtil('あ',"せる","させる","させる","させる",'こ');
+        return form(VerbForm.CAUSATIVE);
     }
 
     /**
@@ -250,12 +285,7 @@ public class Verb implements Yougen {
      * @return 变为使役被动形式后的字符串
      */
     public String causativePassiveForm() {
-        // 察する
-        if(verbType != null && verbType.equals(VerbTypeConstants.SASSURU)) {
-            return NekoEmojiConstants.VERB_CANNOT_CHANGE + " " + NekoEmojiConstants.UNKNOWN;
-        }
-        return verbUtil('あ',"される","させられる",
-                "させられる","させられる",'こ');
+        return form(VerbForm.CAUSATIVE_PASSIVE);
     }
 
     /**
@@ -263,6 +293,6 @@ public class Verb implements Yougen {
      * @return 变为ず形后的字符串
      */
     public String zuForm() {
-        return verbUtil('あ',"ず","ず","せず","ず",'こ');
+        return form(VerbForm.ZU);
     }
 }
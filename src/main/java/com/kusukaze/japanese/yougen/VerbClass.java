@@ -0,0 +1,204 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.constants.VerbTypeConstants;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 动词分类：由字典中的类型解析得到，决定动词使用哪一组变形规则<p>
+ * 类型在新建动词时解析一次，之后每次变形只需在（分类，变形种类）规则表中查找一条规则。
+ * 字典中的四段动词（v4r、v4k等）目前没有规则，归入{@link #UNKNOWN}，所有变形返回null；支持时只需为其添加一行规则
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public enum VerbClass {
+    /** 一类动词 */
+    GODAN,
+    /** 行く（て形、た形特殊） */
+    IKU,
+    /** 問う（て形、た形特殊） */
+    TOU,
+    /** ある（ない形特殊） */
+    ARU,
+    /** くださる（ます形、命令形特殊） */
+    KUDASARU,
+    /** 二类动词 */
+    ICHIDAN,
+    /** くれる（命令形特殊） */
+    KURERU,
+    /** する */
+    SURU,
+    /** 察する（可能、被动、使役、使役被动形式无法变形） */
+    SASSURU,
+    /** 来る */
+    KURU,
+    /** 古语-ずる */
+    ZURU,
+    /** 古语-上二段 */
+    NIDAN_KAMI,
+    /** 古语-下二段 */
+    NIDAN_SHIMO,
+    /** 古语-其他二段动词（仅呉る的命令形可以变形） */
+    NIDAN,
+    /** 没有变形规则的类型 */
+    UNKNOWN;
+
+    private static final VerbForm[] FORMS = VerbForm.values();
+    private static final ConcurrentHashMap<String,VerbClass> PARSED = new ConcurrentHashMap<>();
+    private static final ConjugationRule[][] RULES = new ConjugationRule[values().length][FORMS.length];
+
+    static {
+        // 各变形的通用参数：一类动词变为哪一段，一类、二类、する、来る的后缀，来る写作假名时く对应的新假名
+        addForm(VerbForm.NAI, 'あ',"ない","ない","しない","ない",'こ');
+        addForm(VerbForm.MASU, 'い',"ます","ます","します","ます",'き');
+        addForm(VerbForm.BA, 'え',"ば","れば","すれば","れば",'く');
+        addForm(VerbForm.VOLITIONAL, 'お',"う","よう","しよう","よう",'こ');
+        addForm(VerbForm.IMPERATIVE, 'え',"","ろ","しろ","い",'こ');
+        addForm(VerbForm.POTENTIAL, 'え',"る","られる","できる","られる",'こ');
+        addForm(VerbForm.PASSIVE, 'あ',"れる","られる","される","られる",'こ');
+        addForm(VerbForm.CAUSATIVE, 'あ',"せる","させる","させる","させる",'こ');
+        addForm(VerbForm.CAUSATIVE_PASSIVE, 'あ',"される","させられる","させられる","させられる",'こ');
+        addForm(VerbForm.ZU, 'あ',"ず","ず","せず","ず",'こ');
+        // て形的一类动词按最后一个假名选择后缀
+        addForm(VerbForm.TE, '　',"","て","して","て",'き');
+        for (VerbClass verbClass : values()) {
+            if(verbClass.isGodan()) {
+                set(verbClass, VerbForm.TE, ConjugationRule.of(ConjugationRule.GODAN_TE, ""));
+            }
+        }
+
+        // 特例
+        set(IKU, VerbForm.TE, ConjugationRule.of(ConjugationRule.DROP_ONE, "って"));
+        set(TOU, VerbForm.TE, ConjugationRule.of(ConjugationRule.KEEP, "て"));
+        set(ARU, VerbForm.NAI, ConjugationRule.of(ConjugationRule.DROP_TWO, "ない"));
+        set(KUDASARU, VerbForm.MASU, ConjugationRule.of(ConjugationRule.DROP_ONE, "います"));
+        set(KUDASARU, VerbForm.IMPERATIVE, ConjugationRule.of(ConjugationRule.DROP_ONE, "い"));
+        set(KURERU, VerbForm.IMPERATIVE, ConjugationRule.of(ConjugationRule.DROP_ONE, ""));
+        ConjugationRule cannotChange = ConjugationRule.of(ConjugationRule.CONSTANT, NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT);
+        set(SASSURU, VerbForm.POTENTIAL, cannotChange);
+        set(SASSURU, VerbForm.PASSIVE, cannotChange);
+        set(SASSURU, VerbForm.CAUSATIVE, cannotChange);
+        set(SASSURU, VerbForm.CAUSATIVE_PASSIVE, cannotChange);
+        // 古语-二段动词 呉る
+        for (VerbClass verbClass : new VerbClass[]{NIDAN_KAMI, NIDAN_SHIMO, NIDAN}) {
+            set(verbClass, VerbForm.IMPERATIVE, new ConjugationRule(ConjugationRule.KURE, "れ", '\0',
+                    RULES[verbClass.ordinal()][VerbForm.IMPERATIVE.ordinal()]));
+        }
+
+        // た形由て形得到
+        for (VerbClass verbClass : values()) {
+            set(verbClass, VerbForm.TA, RULES[verbClass.ordinal()][VerbForm.TE.ordinal()].toPast());
+        }
+    }
+
+    /**
+     * 解析字典中的类型
+     *
+     * @param verbType 动词类型（见VerbTypeConstants），可以为null
+     * @return 动词分类，没有对应规则时返回{@link #UNKNOWN}
+     */
+    public static VerbClass of(String verbType) {
+        if(verbType == null) {
+            return UNKNOWN;
+        }
+        VerbClass verbClass = PARSED.get(verbType);
+        if(verbClass == null) {
+            verbClass = parse(verbType);
+            PARSED.putIfAbsent(verbType, verbClass);
+        }
+        return verbClass;
+    }
+
+    private static VerbClass parse(String verbType) {
+        switch (verbType) {
+            case VerbTypeConstants.IKU: return IKU;
+            case VerbTypeConstants.TOU: return TOU;
+            case VerbTypeConstants.ARU: return ARU;
+            case VerbTypeConstants.KUDASARU: return KUDASARU;
+            case VerbTypeConstants.KURERU: return KURERU;
+            case VerbTypeConstants.SASSURU: return SASSURU;
+            default: break;
+        }
+        if(verbType.startsWith(VerbTypeConstants.GODAN)) {
+            return GODAN;
+        }
+        if(verbType.startsWith(VerbTypeConstants.ICHIDAN)) {
+            return ICHIDAN;
+        }
+        if(verbType.startsWith(VerbTypeConstants.SURU)) {
+            return SURU;
+        }
+        if(verbType.startsWith(VerbTypeConstants.KURU)) {
+            return KURU;
+        }
+        if(verbType.startsWith(VerbTypeConstants.ZURU)) {
+            return ZURU;
+        }
+        if(verbType.startsWith(VerbTypeConstants.NIDAN)) {
+            return verbType.endsWith("k") ? NIDAN_KAMI : verbType.endsWith("s") ? NIDAN_SHIMO : NIDAN;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 将动词的指定变形追加到out末尾
+     *
+     * @param verbName 动词
+     * @param form 变形种类
+     * @param out 输出
+     * @return 是否追加成功；无法变形时返回false，out不变
+     */
+    public boolean appendForm(CharSequence verbName, VerbForm form, StringBuilder out) {
+        return RULES[ordinal()][form.ordinal()].append(verbName, out);
+    }
+
+    private boolean isGodan() {
+        return this == GODAN || this == IKU || this == TOU || this == ARU || this == KUDASARU;
+    }
+
+    private static void addForm(VerbForm form, char specificDan, String godanSuffix, String ichidanSuffix,
+                                String suruSuffix, String kuruSuffix, char kuruNewKana) {
+        for (VerbClass verbClass : values()) {
+            ConjugationRule rule;
+            switch (verbClass) {
+                case GODAN: case IKU: case TOU: case ARU: case KUDASARU:
+                    // 一类动词：将最后一个假名改为specificDan段，并添加后缀godanSuffix
+                    rule = ConjugationRule.of(ConjugationRule.CHANGE_DAN, godanSuffix, specificDan);
+                    break;
+                case ICHIDAN: case KURERU:
+                    // 二类动词：去掉最后的假名る，并添加后缀ichidanSuffix
+                    rule = ConjugationRule.of(ConjugationRule.DROP_ONE, ichidanSuffix);
+                    break;
+                case SURU: case SASSURU:
+                    // する：去掉最后的する，并添加后缀suruSuffix
+                    rule = ConjugationRule.of(ConjugationRule.DROP_TWO, suruSuffix);
+                    break;
+                case KURU:
+                    // 来る：去掉最后的くる，并添加kuruNewKana和后缀kuruSuffix。若写作汉字 来る，则直接去る加后缀
+                    rule = ConjugationRule.of(ConjugationRule.KURU, kuruSuffix, kuruNewKana);
+                    break;
+                case ZURU:
+                    // 古语-ずる：转化为じる，再视为二类动词
+                    rule = ConjugationRule.of(ConjugationRule.DROP_TWO, "じ" + ichidanSuffix);
+                    break;
+                case NIDAN_KAMI:
+                    // 古语-上二段：将最后一个假名改为い段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
+                    rule = ConjugationRule.of(ConjugationRule.CHANGE_DAN, ichidanSuffix, 'い');
+                    break;
+                case NIDAN_SHIMO:
+                    // 古语-下二段：将最后一个假名改为え段+る，再视为二类动词。若只有一个汉字，则保留汉字不变化
+                    rule = ConjugationRule.of(ConjugationRule.CHANGE_DAN, ichidanSuffix, 'え');
+                    break;
+                default:
+                    rule = ConjugationRule.UNSUPPORTED;
+                    break;
+            }
+            set(verbClass, form, rule);
+        }
+    }
+
+    private static void set(VerbClass verbClass, VerbForm form, ConjugationRule rule) {
+        RULES[verbClass.ordinal()][form.ordinal()] = rule;
+    }
+}
@@ -0,0 +1,206 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.constants.VerbTypeConstants;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 动词还原：由变形后的动词查找原形<p>
+ * 对字典中的每个动词执行{@link Verb}的全部变形，去掉原形与变形结果的公共前缀，
+ * 得到「变形词尾 → 原形词尾」的替换规则。还原时按输入的各个后缀查找规则，拼出候选原形，
+ * 在字典索引中确认候选原形存在后，再用{@link Verb}的变形规则重新变形校验，因此结果与{@link Verb}完全一致。
+ * 生成规则和校验都直接使用{@link VerbClass}的规则表，不经过变形缓存，也不计入变形统计与JFR事件。
+ * 可能、被动、使役、使役被动形式的结果是二类动词，还会按二类动词的变形再还原一层（如「食べさせられた」）。
+ * 规则在第一次还原时生成，字典重新加载后自动重建。生成规则要对整个字典变形，约需1秒，期间其他还原调用等待；
+ * 逐键输入等对首次延迟敏感的场景，应在启动时调用{@link #initialize()}，或用{@link #initializeAsync()}在后台生成。
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public final class VerbDeconjugator {
+    private static final VerbForm[] FORMS = VerbForm.values();
+    // 结果为二类动词、可以继续变形的变形种类
+    private static final Set<VerbForm> DERIVED_FORMS =
+            EnumSet.of(VerbForm.POTENTIAL, VerbForm.PASSIVE, VerbForm.CAUSATIVE, VerbForm.CAUSATIVE_PASSIVE);
+    // 二类动词各变形的词尾（去掉る后添加的部分）
+    private static final String[] ICHIDAN_SUFFIXES = new String[FORMS.length];
+
+    private static final VerbClass ICHIDAN = VerbClass.of(VerbTypeConstants.ICHIDAN);
+
+    static {
+        StringBuilder out = new StringBuilder();
+        for (VerbForm form : FORMS) {
+            out.setLength(0);
+            ICHIDAN_SUFFIXES[form.ordinal()] = ICHIDAN.appendForm("る", form, out) ? out.toString() : null;
+        }
+    }
+
+    private static volatile VerbDeconjugator instance;
+
+    private final VerbDictionary dictionary;
+    // 变形词尾 → 原形词尾
+    private final Map<String,String[]> rules;
+    private final int maxSuffixLength;
+
+    private VerbDeconjugator(VerbDictionary dictionary) {
+        this.dictionary = dictionary;
+        Map<String,Set<String>> ruleSets = new HashMap<>();
+        int maxLength = 0;
+        int n = dictionary.size();
+        StringBuilder surface = new StringBuilder(32);
+        for(int i=0;i<n;i++) {
+            String lemma = dictionary.getKaki(i);
+            VerbClass verbClass = VerbClass.of(dictionary.getType(i));
+            for (VerbForm form : FORMS) {
+                surface.setLength(0);
+                if(!verbClass.appendForm(lemma, form, surface)
+                        || NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.contentEquals(surface)) {
+                    continue;
+                }
+                int common = commonPrefixLength(lemma, surface);
+                String surfaceSuffix = surface.substring(common);
+                ruleSets.computeIfAbsent(surfaceSuffix, k -> new LinkedHashSet<>()).add(lemma.substring(common));
+                maxLength = Math.max(maxLength, surfaceSuffix.length());
+            }
+        }
+        rules = new HashMap<>(ruleSets.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Set<String>> entry : ruleSets.entrySet()) {
+            rules.put(entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+        maxSuffixLength = maxLength;
+    }
+
+    /**
+     * 还原变形后的动词<p>
+     * 一个变形可能对应多个原形、类型或变形种类（如「食べられる」既是可能形式也是被动形式），全部返回
+     *
+     * @param surface 变形后的动词，如「食べさせられた」「行って」
+     * @return 还原结果列表，按变形后缀由短到长、原形在字典中的顺序、变形种类的顺序排列；无法还原时返回空列表
+     */
+    public static List<DeconjugatedVerb> deconjugate(String surface) {
+        if(surface == null || surface.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return getInstance().find(surface);
+    }
+
+    /**
+     * 立即为当前字典生成还原规则，已生成时不做任何事<p>
+     * 会在需要时先加载字典
+     */
+    public static void initialize() {
+        getInstance();
+    }
+
+    /**
+     * 在后台线程中生成还原规则，生成完成前调用{@link #deconjugate(String)}会等待生成完成
+     *
+     * @return 生成完成（或失败）时结束的任务
+     */
+    public static CompletableFuture<Void> initializeAsync() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread builder = new Thread(() -> {
+            try {
+                initialize();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, "verb-deconjugator-initializer");
+        builder.setDaemon(true);
+        builder.start();
+        return future;
+    }
+
+    /**
+     * 返回当前字典对应的还原器，字典变化时重建规则
+     */
+    private static VerbDeconjugator getInstance() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        VerbDeconjugator current = instance;
+        if(current == null || current.dictionary != dictionary) {
+            synchronized (VerbDeconjugator.class) {
+                current = instance;
+                if(current == null || current.dictionary != dictionary) {
+                    current = new VerbDeconjugator(dictionary);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<DeconjugatedVerb> find(String surface) {
+        Set<DeconjugatedVerb> results = new LinkedHashSet<>();
+        StringBuilder out = new StringBuilder(32);
+        findDirect(surface, results, out);
+        // 派生的二类动词再变形：去掉二类动词词尾，补上る后还原
+        for (VerbForm inflection : FORMS) {
+            String suffix = ICHIDAN_SUFFIXES[inflection.ordinal()];
+            if(suffix == null || !surface.endsWith(suffix) || surface.length() == suffix.length()) {
+                continue;
+            }
+            String derived = surface.substring(0, surface.length() - suffix.length()) + "る";
+            out.setLength(0);
+            if(!ICHIDAN.appendForm(derived, inflection, out) || !surface.contentEquals(out)) {
+                continue;
+            }
+            Set<DeconjugatedVerb> derivedResults = new LinkedHashSet<>();
+            findDirect(derived, derivedResults, out);
+            for (DeconjugatedVerb result : derivedResults) {
+                if(DERIVED_FORMS.contains(result.getForm())) {
+                    results.add(new DeconjugatedVerb(result.getLemma(), result.getVerbType(),
+                            result.getForm(), inflection));
+                }
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * 按规则还原一层
+     * @param out 校验时使用的缓冲区
+     */
+    private void findDirect(String surface, Set<DeconjugatedVerb> results, StringBuilder out) {
+        int n = surface.length();
+        for(int k=0;k<=n && k<=maxSuffixLength;k++) {
+            String[] lemmaSuffixes = rules.get(surface.substring(n - k));
+            if(lemmaSuffixes == null) {
+                continue;
+            }
+            String stem = surface.substring(0, n - k);
+            for (String lemmaSuffix : lemmaSuffixes) {
+                String lemma = stem + lemmaSuffix;
+                for(int entry=dictionary.findFirstByKaki(lemma);entry>=0;entry=dictionary.findNextByKaki(entry)) {
+                    String verbType = dictionary.getType(entry);
+                    VerbClass verbClass = VerbClass.of(verbType);
+                    for (VerbForm form : FORMS) {
+                        out.setLength(0);
+                        if(verbClass.appendForm(lemma, form, out) && surface.contentEquals(out)) {
+                            results.add(new DeconjugatedVerb(lemma, verbType, form));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int commonPrefixLength(CharSequence a, CharSequence b) {
+        int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while(i < n && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
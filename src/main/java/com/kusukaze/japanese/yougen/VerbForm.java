@@ -0,0 +1,57 @@
+package com.kusukaze.japanese.yougen;
+
+/**
+ * 动词变形的种类
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+public enum VerbForm {
+    TE("て形"),
+    TA("た形"),
+    NAI("ない形"),
+    MASU("ます形"),
+    BA("ば形"),
+    VOLITIONAL("意志形"),
+    IMPERATIVE("命令形"),
+    POTENTIAL("可能形式"),
+    PASSIVE("被动形式"),
+    CAUSATIVE("使役形式"),
+    CAUSATIVE_PASSIVE("使役被动形式"),
+    ZU("ず形");
+
+    private final String displayName;
+
+    VerbForm(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * 返回变形的中文名称
+     * @return 名称，如「て形」
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 对动词进行此种变形
+     * @param verb 待变形的动词
+     * @return 变形后的字符串，若无法变形则返回null
+     */
+    public String apply(Verb verb) {
+        switch (this) {
+            case TE: return verb.teForm();
+            case TA: return verb.taForm();
+            case NAI: return verb.naiForm();
+            case MASU: return verb.masuForm();
+            case BA: return verb.baForm();
+            case VOLITIONAL: return verb.volitionalForm();
+            case IMPERATIVE: return verb.imperativeForm();
+            case POTENTIAL: return verb.potentialForm();
+            case PASSIVE: return verb.passiveForm();
+            case CAUSATIVE: return verb.causativeForm();
+            case CAUSATIVE_PASSIVE: return verb.causativePassiveForm();
+            default: return verb.zuForm();
+        }
+    }
+}
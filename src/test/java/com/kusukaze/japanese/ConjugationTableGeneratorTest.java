@@ -0,0 +1,90 @@
+package com.kusukaze.japanese;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 变形表与逐个{@link Verb}变形的对照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class ConjugationTableGeneratorTest {
+    // 覆盖各类动词、同形异类的条目，以及无法变形的察する
+    private static final String DICTIONARY = "書く,かく,v5k\n"
+            + "食べる,たべる,v1\n"
+            + "行く,いく,v5k-s\n"
+            + "来る,くる,vk\n"
+            + ",くる,vk\n"
+            + "勉強,べんきょう,vs\n"
+            + "察する,さっする,vs-s\n"
+            + "下さる,くださる,v5aru\n"
+            + "居る,いる,v1\n"
+            + "居る,おる,v5r\n"
+            + "有る,ある,v5r-i\n"
+            + "死ぬ,しぬ,v5n\n";
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void restoreClasspathDictionary() {
+        DictionaryUtils.configure(null, LoadMode.LAZY);
+    }
+
+    @Test
+    void tableMatchesVerb() throws IOException {
+        Path source = Files.write(dir.resolve("verbs.txt"), DICTIONARY.getBytes(StandardCharsets.UTF_8));
+        DictionaryUtils.configure(source, LoadMode.LAZY);
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+
+        Path output = dir.resolve("table.tsv");
+        ConjugationTableGenerator.main(new String[]{output.toString(), "2"});
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+
+        VerbForm[] forms = VerbForm.values();
+        assertEquals(dictionary.size() + 1, lines.size());
+        assertEquals(3 + forms.length, lines.get(0).split("\t", -1).length);
+        int cannotChange = 0;
+        for(int i=0;i<dictionary.size();i++) {
+            String[] columns = lines.get(i + 1).split("\t", -1);
+            assertEquals(3 + forms.length, columns.length, lines.get(i + 1));
+            assertEquals(dictionary.getKaki(i), columns[0]);
+            assertEquals(dictionary.getYomi(i), columns[1]);
+            assertEquals(dictionary.getType(i), columns[2]);
+            Verb verb = new Verb(dictionary.getKaki(i), dictionary.getType(i));
+            for (VerbForm form : forms) {
+                String expected = form.apply(verb);
+                // 无法变形的项留空
+                if(expected == null || NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.equals(expected)) {
+                    cannotChange += expected == null ? 0 : 1;
+                    expected = "";
+                }
+                assertEquals(expected, columns[3 + form.ordinal()], columns[0] + " " + form.getDisplayName());
+            }
+        }
+        assertEquals(4, cannotChange);
+    }
+
+    @Test
+    void resultDoesNotDependOnParallelism() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        assertArrayEquals(ConjugationTableGenerator.generate(dictionary, 1),
+                ConjugationTableGenerator.generate(dictionary, 4));
+    }
+}
@@ -0,0 +1,105 @@
+package com.kusukaze.japanese.batch;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbForm;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 批量变形与逐个{@link Verb}变形的对照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class BatchConjugatorTest {
+    private static final Set<VerbForm> ALL_FORMS = EnumSet.allOf(VerbForm.class);
+
+    @Test
+    void matchesVerbBelowAndAboveThreshold() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            String[] verbs = randomVerbs(new Random(9), 3000);
+            Set<VerbForm> someForms = EnumSet.of(VerbForm.TE, VerbForm.POTENTIAL, VerbForm.ZU);
+            for (int threshold : new int[]{1, 64, BatchConjugator.DEFAULT_THRESHOLD, 10_000}) {
+                BatchConjugator conjugator = new BatchConjugator(pool, threshold);
+                assertMatchesVerb(verbs, ALL_FORMS, conjugator.conjugate(verbs, ALL_FORMS));
+                assertMatchesVerb(verbs, someForms, conjugator.conjugate(List.of(verbs), someForms));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mapsCannotChangeAndUnknownVerbsToNull() {
+        String[] verbs = {"察する", "ねこ", "", "書く"};
+        String[][] result = new BatchConjugator().conjugate(verbs, ALL_FORMS);
+        assertMatchesVerb(verbs, ALL_FORMS, result);
+        assertNull(result[0][VerbForm.POTENTIAL.ordinal()]);
+        assertEquals("察して", result[0][VerbForm.TE.ordinal()]);
+        assertArrayEquals(new String[ALL_FORMS.size()], result[1]);
+        assertArrayEquals(new String[ALL_FORMS.size()], result[2]);
+    }
+
+    @Test
+    void duplicateInputsGetIndependentRows() {
+        String[] verbs = {"書く", "食べる", "書く", "ねこ", "書く", "ねこ"};
+        String[][] result = new BatchConjugator().conjugate(verbs, ALL_FORMS);
+        assertMatchesVerb(verbs, ALL_FORMS, result);
+        assertNotSame(result[0], result[2]);
+        assertNotSame(result[2], result[4]);
+        assertNotSame(result[3], result[5]);
+        result[0][0] = "改";
+        assertEquals("書いて", result[2][0]);
+        assertEquals("書いて", result[4][0]);
+    }
+
+    private static void assertMatchesVerb(String[] verbs, Set<VerbForm> forms, String[][] result) {
+        assertEquals(verbs.length, result.length);
+        for(int i=0;i<verbs.length;i++) {
+            Verb verb = new Verb(verbs[i]);
+            assertEquals(forms.size(), result[i].length, verbs[i]);
+            int column = 0;
+            for (VerbForm form : forms) {
+                String expected = form.apply(verb);
+                if(NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.equals(expected)) {
+                    expected = null;
+                }
+                assertEquals(expected, result[i][column++], verbs[i] + " " + form.getDisplayName());
+            }
+        }
+    }
+
+    // 字典中的动词，混入重复和字典中没有的词
+    private static String[] randomVerbs(Random random, int count) {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        List<String> verbs = new ArrayList<>(count);
+        for(int i=0;i<count;i++) {
+            int kind = random.nextInt(10);
+            if(kind == 0 && !verbs.isEmpty()) {
+                verbs.add(verbs.get(random.nextInt(verbs.size())));
+            }
+            else if(kind == 1) {
+                verbs.add("ねこ" + random.nextInt(100));
+            }
+            else {
+                verbs.add(dictionary.getKaki(random.nextInt(dictionary.size())));
+            }
+        }
+        verbs.add("察する");
+        return verbs.toArray(new String[0]);
+    }
+}
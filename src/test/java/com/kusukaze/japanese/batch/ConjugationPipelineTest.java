@@ -0,0 +1,144 @@
+package com.kusukaze.japanese.batch;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import com.kusukaze.japanese.yougen.VerbForm;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 流式变形的测试：转义、多块输出的顺序、未查询到的记录和读取异常
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class ConjugationPipelineTest {
+    // 超过两块（每块4096行）
+    private static final int LINES = 10_000;
+
+    @Test
+    void escapesCsvFields() {
+        assertEquals("", csv(null));
+        assertEquals("書く", csv("書く"));
+        assertEquals("\"a,b\"", csv("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", csv("say \"hi\""));
+        assertEquals("\"a\nb\"", csv("a\nb"));
+        assertEquals("\"a\r\nb\"", csv("a\r\nb"));
+    }
+
+    @Test
+    void escapesJsonStrings() {
+        assertEquals("null", json(null));
+        assertEquals("\"書く\"", json("書く"));
+        assertEquals("\"a\\\\b\"", json("a\\b"));
+        assertEquals("\"\\\"\"", json("\""));
+        assertEquals("\"\\u0009\\u000a\\u000d\\u0000\\u001f\"", json("\t\n\r\u0000\u001f"));
+    }
+
+    @Test
+    void writesEmptyRecordForUnknownInput() throws Exception {
+        String csv = run("ねこ\na,\"b\"\n", ConjugationPipeline.Format.CSV, 2);
+        String[] lines = csv.split("\n");
+        assertEquals(3, lines.length);
+        String emptyForms = ",".repeat(VerbForm.values().length);
+        assertEquals("ねこ," + emptyForms, lines[1]);
+        assertEquals("\"a,\"\"b\"\"\"," + emptyForms, lines[2]);
+
+        String jsonl = run("ねこ\na,\"b\"\n", ConjugationPipeline.Format.JSONL, 2);
+        assertEquals("{\"input\":\"ねこ\",\"verb\":null}\n{\"input\":\"a,\\\"b\\\"\",\"verb\":null}\n", jsonl);
+    }
+
+    @Test
+    void keepsInputOrderAcrossChunks() throws Exception {
+        List<String> inputs = inputs();
+        String text = String.join("\n", inputs) + "\n";
+        for (ConjugationPipeline.Format format : ConjugationPipeline.Format.values()) {
+            String single = run(text, format, 1);
+            String parallel = run(text, format, 4);
+            assertEquals(single, parallel, format.name());
+
+            // 每行输入对应连续的一条或多条记录
+            List<String> recordInputs = new ArrayList<>();
+            String[] records = parallel.split("\n");
+            for(int i=format == ConjugationPipeline.Format.CSV ? 1 : 0;i<records.length;i++) {
+                String input = format == ConjugationPipeline.Format.CSV
+                        ? records[i].substring(0, records[i].indexOf(','))
+                        : records[i].substring("{\"input\":\"".length(), records[i].indexOf("\",\"verb\""));
+                if(recordInputs.isEmpty() || !recordInputs.get(recordInputs.size() - 1).equals(input)) {
+                    recordInputs.add(input);
+                }
+            }
+            assertEquals(inputs, recordInputs, format.name());
+        }
+    }
+
+    @Test
+    void propagatesReaderFailure() {
+        IOException failure = new IOException("读取失败");
+        String text = "書く\n".repeat(LINES);
+        Reader failing = new Reader() {
+            private final Reader in = new StringReader(text);
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int n = in.read(buffer, offset, length);
+                if(n < 0) {
+                    throw failure;
+                }
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        for (int threads : new int[]{1, 4}) {
+            IOException e = assertThrows(IOException.class, () -> ConjugationPipeline.run(
+                    new BufferedReader(failing), new StringWriter(), ConjugationPipeline.Format.CSV, threads, null));
+            assertSame(failure, e);
+        }
+    }
+
+    // 字典中不重复的写法，夹杂字典中没有的词，相邻两行不同
+    private static List<String> inputs() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        Set<String> names = new LinkedHashSet<>();
+        for(int i=0;names.size()<LINES;i+=3) {
+            names.add(i % 7 == 0 ? "ねこ" + i : dictionary.getKaki(i % dictionary.size()));
+        }
+        return new ArrayList<>(names);
+    }
+
+    private static String run(String text, ConjugationPipeline.Format format, int threads) throws Exception {
+        StringWriter out = new StringWriter();
+        long lines = ConjugationPipeline.run(new BufferedReader(new StringReader(text)), out, format, threads, null);
+        assertEquals(text.split("\n").length, lines);
+        assertTrue(out.toString().endsWith("\n"));
+        return out.toString();
+    }
+
+    private static String csv(String value) {
+        StringBuilder text = new StringBuilder();
+        ConjugationPipeline.appendCsv(text, value);
+        return text.toString();
+    }
+
+    private static String json(String value) {
+        StringBuilder text = new StringBuilder();
+        ConjugationPipeline.appendJson(text, value);
+        return text.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package com.kusukaze.japanese.utils;
+
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典加载方式的测试：修改路径后的重新加载，以及加载失败时的报告与重试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class DictionaryLoadModeTest {
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void restoreClasspathDictionary() {
+        DictionaryUtils.configure(null, LoadMode.LAZY);
+    }
+
+    @Test
+    void lazyReloadsAfterConfigure() throws IOException {
+        Path first = write("first.txt", "書く,かく,v5k\n");
+        Path second = write("second.txt", "食べる,たべる,v1\n");
+
+        DictionaryUtils.configure(first, LoadMode.LAZY);
+        assertFalse(DictionaryUtils.isVerbDictionaryLoaded());
+        assertEquals("v5k", DictionaryUtils.getVerbType("書く"));
+        assertTrue(DictionaryUtils.isVerbDictionaryLoaded());
+
+        DictionaryUtils.configure(second, LoadMode.LAZY);
+        assertFalse(DictionaryUtils.isVerbDictionaryLoaded());
+        assertNull(DictionaryUtils.getVerbType("書く"));
+        assertEquals("v1", DictionaryUtils.getVerbType("食べる"));
+    }
+
+    @Test
+    void lazyRetriesAfterFailedLoad() throws IOException {
+        Path path = dir.resolve("later.txt");
+        DictionaryUtils.configure(path, LoadMode.LAZY);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DictionaryUtils.getVerbType("書く"));
+        assertInstanceOf(NoSuchFileException.class, e.getCause());
+        assertFalse(DictionaryUtils.isVerbDictionaryLoaded());
+
+        write("later.txt", "書く,かく,v5k\n");
+        assertEquals("v5k", DictionaryUtils.getVerbType("書く"));
+    }
+
+    @Test
+    void eagerFailurePropagates() throws IOException {
+        Path good = write("good.txt", "書く,かく,v5k\n");
+        DictionaryUtils.configure(good, LoadMode.EAGER);
+        assertTrue(DictionaryUtils.isVerbDictionaryLoaded());
+        assertEquals("v5k", DictionaryUtils.getVerbType("書く"));
+
+        Path missing = dir.resolve("missing.txt");
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> DictionaryUtils.configure(missing, LoadMode.EAGER));
+        assertInstanceOf(NoSuchFileException.class, e.getCause());
+        // 不再使用旧路径的字典，下次查询重试并再次报告失败
+        assertFalse(DictionaryUtils.isVerbDictionaryLoaded());
+        assertThrows(IllegalStateException.class, () -> DictionaryUtils.getVerbType("書く"));
+    }
+
+    @Test
+    void asyncFailFastSurfacesLoadErrorOnFirstQuery() throws IOException {
+        Path path = dir.resolve("later.txt");
+        DictionaryUtils.configure(path, LoadMode.ASYNC_FAIL_FAST);
+        assertNotNull(DictionaryUtils.getPendingLoad());
+        awaitPendingLoad();
+        // 补上文件后，第一次查询仍报告后台加载的异常
+        write("later.txt", "書く,かく,v5k\n");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DictionaryUtils.getVerbType("書く"));
+        assertInstanceOf(NoSuchFileException.class, e.getCause());
+        // 之后的查询在当前线程重新加载
+        assertEquals("v5k", DictionaryUtils.getVerbType("書く"));
+    }
+
+    @Test
+    void asyncFallsBackToSynchronousLoad() throws IOException {
+        Path path = dir.resolve("later.txt");
+        DictionaryUtils.configure(path, LoadMode.ASYNC);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DictionaryUtils.getVerbType("書く"));
+        assertInstanceOf(NoSuchFileException.class, e.getCause());
+        assertNull(DictionaryUtils.getPendingLoad());
+
+        write("later.txt", "書く,かく,v5k\n");
+        assertEquals("v5k", DictionaryUtils.getVerbType("書く"));
+        assertNull(DictionaryUtils.getPendingLoad());
+    }
+
+    @Test
+    void asyncKeepsLoadedDictionaryUntilSwap() throws IOException {
+        Path first = write("first.txt", "書く,かく,v5k\n");
+        Path second = write("second.txt", "食べる,たべる,v1\n");
+        DictionaryUtils.configure(first, LoadMode.EAGER);
+        VerbDictionary loaded = DictionaryUtils.getVerbDictionary();
+
+        DictionaryUtils.configure(second, LoadMode.ASYNC);
+        VerbDictionary current = DictionaryUtils.getVerbDictionary();
+        // 后台加载完成前为旧字典，完成后整体替换
+        assertTrue(current == loaded || current.size() == 1 && "食べる".equals(current.getKaki(0)));
+        awaitPendingLoad();
+        assertEquals("v1", DictionaryUtils.getVerbType("食べる"));
+        assertNull(DictionaryUtils.getVerbType("書く"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 加载成功时任务在完成前已被取走，失败时保留到下一次查询
+    private static void awaitPendingLoad() {
+        CompletableFuture<VerbDictionary> future = DictionaryUtils.getPendingLoad();
+        if(future != null) {
+            future.handle((dictionary, e) -> null).join();
+        }
+    }
+}
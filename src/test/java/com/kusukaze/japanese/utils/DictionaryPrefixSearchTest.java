@@ -0,0 +1,77 @@
+package com.kusukaze.japanese.utils;
+
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 前缀查询与逐条扫描的对照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class DictionaryPrefixSearchTest {
+    private static final int RANDOM_PREFIXES = 300;
+
+    @Test
+    void matchesScanForKanjiKanaAndKatakanaPrefixes() {
+        List<String> prefixes = new ArrayList<>(List.of("書", "食べ", "たべ", "タベ", "か", "カ", "あ", "する", "ゔ", "ヴ"));
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        Random random = new Random(6);
+        for(int i=0;i<RANDOM_PREFIXES;i++) {
+            int entry = random.nextInt(dictionary.size());
+            String key = random.nextBoolean() ? dictionary.getKaki(entry) : dictionary.getYomi(entry);
+            String prefix = key.substring(0, 1 + random.nextInt(Math.min(3, key.length())));
+            prefixes.add(random.nextBoolean() ? GojuuonzuUtils.hiragana2Katakana(prefix) : prefix);
+        }
+        for (String prefix : prefixes) {
+            List<String> names = DictionaryUtils.searchVerbByPrefix(prefix).collect(Collectors.toList());
+            Set<String> distinct = new HashSet<>(names);
+            // 写法和读音都匹配的条目、同形异类的条目只返回一次
+            assertEquals(distinct.size(), names.size(), prefix);
+            assertEquals(scan(dictionary, prefix), distinct, prefix);
+        }
+        assertEquals(DictionaryUtils.searchVerbByPrefix("たべ").collect(Collectors.toList()),
+                DictionaryUtils.searchVerbByPrefix("タベ").collect(Collectors.toList()));
+        assertTrue(DictionaryUtils.searchVerbByPrefix("たべ").anyMatch("食べる"::equals));
+    }
+
+    @Test
+    void respectsLimit() {
+        List<String> all = DictionaryUtils.searchVerbByPrefix("か").collect(Collectors.toList());
+        assertTrue(all.size() > 100);
+        for (int limit : new int[]{0, 1, 10, 100}) {
+            assertEquals(all.subList(0, limit), DictionaryUtils.searchVerbByPrefix("か", limit));
+        }
+        List<String> few = DictionaryUtils.searchVerbByPrefix("書き", Integer.MAX_VALUE);
+        assertEquals(scan(DictionaryUtils.getVerbDictionary(), "書き"), new HashSet<>(few));
+    }
+
+    @Test
+    void emptyAndUnmatchedPrefixesReturnNothing() {
+        assertFalse(DictionaryUtils.searchVerbByPrefix("").findAny().isPresent());
+        assertFalse(DictionaryUtils.searchVerbByPrefix(null).findAny().isPresent());
+        assertEquals(0, DictionaryUtils.searchVerbByPrefix("ゑゑゑ", 10).size());
+        assertEquals(0, DictionaryUtils.searchVerbByPrefix("Ｚ", 10).size());
+    }
+
+    private static Set<String> scan(VerbDictionary dictionary, String prefix) {
+        String key = GojuuonzuUtils.katakana2Hiragana(prefix);
+        Set<String> names = new HashSet<>();
+        for(int i=0;i<dictionary.size();i++) {
+            if(dictionary.getNormalizedKaki(i).startsWith(key) || dictionary.getYomi(i).startsWith(key)) {
+                names.add(dictionary.getKaki(i));
+            }
+        }
+        return names;
+    }
+}
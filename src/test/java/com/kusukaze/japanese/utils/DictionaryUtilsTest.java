@@ -0,0 +1,61 @@
+package com.kusukaze.japanese.utils;
+
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 写法索引与逐条扫描的对照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class DictionaryUtilsTest {
+    // 逐条扫描每次要遍历整个字典，按此间隔抽取条目
+    private static final int SAMPLE_STEP = 37;
+
+    @Test
+    void indexedLookupMatchesScan() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        for(int i=0;i<dictionary.size();i+=SAMPLE_STEP) {
+            String kaki = dictionary.getKaki(i);
+            assertEquals(DictionaryUtils.getVerbTypeByScan(kaki), DictionaryUtils.getVerbType(kaki), kaki);
+        }
+    }
+
+    @Test
+    void indexedLookupMatchesScanForMisses() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        List<String> keys = new ArrayList<>();
+        keys.add("");
+        keys.add("ゑゑゑ");
+        keys.add("書");
+        for(int i=0;i<dictionary.size();i+=SAMPLE_STEP * 3) {
+            String kaki = dictionary.getKaki(i);
+            keys.add(kaki.substring(0, kaki.length() - 1));
+            keys.add(kaki + "ゑ");
+            keys.add(GojuuonzuUtils.hiragana2Katakana(kaki));
+        }
+        for (String key : keys) {
+            assertEquals(DictionaryUtils.getVerbTypeByScan(key), DictionaryUtils.getVerbType(key), key);
+        }
+    }
+
+    @Test
+    void typesMatchEveryEntryInDictionaryOrder() {
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        Map<String,List<String>> expected = new HashMap<>();
+        for(int i=0;i<dictionary.size();i++) {
+            expected.computeIfAbsent(dictionary.getKaki(i), kaki -> new ArrayList<>()).add(dictionary.getType(i));
+        }
+        for (Map.Entry<String,List<String>> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), DictionaryUtils.getVerbTypes(entry.getKey()), entry.getKey());
+            assertEquals(entry.getValue().get(0), DictionaryUtils.getVerbType(entry.getKey()), entry.getKey());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.kusukaze.japanese.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 五十音图工具类与改为查表之前的实现的对照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class GojuuonzuUtilsTest {
+    // 0x0000-0xFFFF的全部字符
+    private static final String ALL_CHARS;
+
+    static {
+        StringBuilder sb = new StringBuilder(0x10000);
+        for(int c=0;c<0x10000;c++) {
+            sb.append((char) c);
+        }
+        ALL_CHARS = sb.toString();
+    }
+
+    @Test
+    void convertsEveryCharLikeBaseline() {
+        for(int c=0;c<0x10000;c++) {
+            String s = String.valueOf((char) c);
+            assertEquals(BaselineGojuuonzuUtils.katakana2Hiragana(s), GojuuonzuUtils.katakana2Hiragana(s), s);
+            assertEquals(BaselineGojuuonzuUtils.hiragana2Katakana(s), GojuuonzuUtils.hiragana2Katakana(s), s);
+            assertEquals(BaselineGojuuonzuUtils.katakana2Hiragana(s).charAt(0), GojuuonzuUtils.katakana2Hiragana((char) c), s);
+        }
+        assertEquals(BaselineGojuuonzuUtils.katakana2Hiragana(ALL_CHARS), GojuuonzuUtils.katakana2Hiragana(ALL_CHARS));
+        assertEquals(BaselineGojuuonzuUtils.hiragana2Katakana(ALL_CHARS), GojuuonzuUtils.hiragana2Katakana(ALL_CHARS));
+    }
+
+    @Test
+    void answersCharQueriesLikeBaseline() {
+        for(int c=0;c<0x10000;c++) {
+            char ch = (char) c;
+            String s = String.valueOf(ch);
+            assertEquals(BaselineGojuuonzuUtils.isHiragana(ch), GojuuonzuUtils.isHiragana(ch), s);
+            assertEquals(BaselineGojuuonzuUtils.isKatagana(ch), GojuuonzuUtils.isKatagana(ch), s);
+            assertEquals(BaselineGojuuonzuUtils.isKana(ch), GojuuonzuUtils.isKana(ch), s);
+            assertEquals(BaselineGojuuonzuUtils.length(s), GojuuonzuUtils.length(s), s);
+        }
+        assertEquals(BaselineGojuuonzuUtils.length(ALL_CHARS), GojuuonzuUtils.length(ALL_CHARS));
+    }
+
+    @Test
+    void convertsToSpecificDanLikeBaseline() {
+        // 五段以外的参数原样返回
+        String dans = "あいうえおかa　ア";
+        for(int c=0;c<0x10000;c++) {
+            char ch = (char) c;
+            for(int i=0;i<dans.length();i++) {
+                char dan = dans.charAt(i);
+                String expected = BaselineGojuuonzuUtils.toSpecificDan(ch, dan);
+                assertEquals(expected, GojuuonzuUtils.toSpecificDan(ch, dan), ch + "/" + dan);
+                assertEquals(expected.charAt(0), GojuuonzuUtils.toSpecificDanChar(ch, dan), ch + "/" + dan);
+            }
+        }
+    }
+
+    @Test
+    void returnsInputWhenNothingToConvert() {
+        String s = "abc漢字、。";
+        assertSame(s, GojuuonzuUtils.katakana2Hiragana(s));
+        assertSame(s, GojuuonzuUtils.hiragana2Katakana(s));
+    }
+
+    @Test
+    void convertsCharArrayRangeInPlace() {
+        char[] chars = ALL_CHARS.toCharArray();
+        GojuuonzuUtils.katakana2Hiragana(chars, 0x3000, 0x3100);
+        String expected = ALL_CHARS.substring(0, 0x3000)
+                + BaselineGojuuonzuUtils.katakana2Hiragana(ALL_CHARS.substring(0x3000, 0x3100))
+                + ALL_CHARS.substring(0x3100);
+        assertEquals(expected, new String(chars));
+
+        chars = ALL_CHARS.toCharArray();
+        GojuuonzuUtils.hiragana2Katakana(chars, 0, chars.length);
+        assertEquals(BaselineGojuuonzuUtils.hiragana2Katakana(ALL_CHARS), new String(chars));
+    }
+
+    @Test
+    void convertsCharBufferRemaining() {
+        String text = ALL_CHARS.substring(0x2F00, 0x3200);
+        // 有底层数组且偏移不为0
+        CharBuffer wrapped = CharBuffer.wrap(text.toCharArray(), 10, 100).slice();
+        GojuuonzuUtils.katakana2Hiragana(wrapped);
+        assertEquals(BaselineGojuuonzuUtils.katakana2Hiragana(text.substring(10, 110)), wrapped.toString());
+
+        // 没有底层数组，且只转换position之后的部分
+        CharBuffer direct = ByteBuffer.allocateDirect(text.length() * 2).asCharBuffer();
+        direct.put(text).flip();
+        direct.position(5);
+        GojuuonzuUtils.hiragana2Katakana(direct);
+        direct.position(0);
+        assertEquals(text.substring(0, 5) + BaselineGojuuonzuUtils.hiragana2Katakana(text.substring(5)), direct.toString());
+    }
+}
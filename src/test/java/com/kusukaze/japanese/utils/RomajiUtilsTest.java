@@ -0,0 +1,65 @@
+package com.kusukaze.japanese.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 罗马字工具类与改为字典树、单遍扫描之前的实现的对照测试<p>
+ * 随机字符串使用固定种子，失败时可以重现
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class RomajiUtilsTest {
+    private static final int RANDOM_STRINGS = 200_000;
+    // 罗马字、n'、减号、假名、汉字、全角与大写字母混合。
+    // 不含İ、Σ等字母：原实现用String.toLowerCase整串转小写，现在逐字符转换，两者对这些字母的结果不同
+    private static final String ROMAJI_ALPHABET = "nnnaiueoktcsshyjfwxzdbpgmrlv'- -あかっー漢ÉｎＡ　1.Nqé";
+    // 促音、拨音、拗音、片假名与罗马字混合
+    private static final String KANA_ALPHABET = "っっッーんンあいうえおかきゃゅょぁちつてでふじうしにゃnaciy'漢ヶヴゎ a-c";
+
+    @Test
+    void lowercasesCharacterByCharacter() {
+        // 与语言环境和上下文无关，不改变长度
+        assertEquals("いか", RomajiUtils.romaji2Hiragana("İKA"));
+        // String.toLowerCase会把词尾的Σ转为ς
+        assertEquals(RomajiUtils.romaji2Hiragana("σσ"), RomajiUtils.romaji2Hiragana("ΣΣ"));
+    }
+
+    @Test
+    void convertsRomajiLikeBaseline() {
+        String[] samples = {"", "  ", "kitte", "tcha", "shinbun'ya", "kon'nichiha", "nn", "n", "xtu", "ＫＡ　ＮＡ", "kyatchi-"};
+        for (String sample : samples) {
+            assertEquals(BaselineRomajiUtils.romaji2Hiragana(sample), RomajiUtils.romaji2Hiragana(sample), sample);
+        }
+        Random random = new Random(17);
+        for(int i=0;i<RANDOM_STRINGS;i++) {
+            String s = randomString(random, ROMAJI_ALPHABET, 12);
+            assertEquals(BaselineRomajiUtils.romaji2Hiragana(s), RomajiUtils.romaji2Hiragana(s), s);
+        }
+    }
+
+    @Test
+    void convertsKanaLikeBaseline() {
+        String[] samples = {"", "かっと", "しっかり", "っー", "ちゃっちゃっと", "きって", "しんや", "キャッチー", "っ", "ん"};
+        for (String sample : samples) {
+            assertEquals(BaselineRomajiUtils.kana2Romaji(sample), RomajiUtils.kana2Romaji(sample), sample);
+        }
+        Random random = new Random(18);
+        for(int i=0;i<RANDOM_STRINGS;i++) {
+            String s = randomString(random, KANA_ALPHABET, 10);
+            assertEquals(BaselineRomajiUtils.kana2Romaji(s), RomajiUtils.kana2Romaji(s), s);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for(int i=0;i<length;i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.kusukaze.japanese.utils.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 有容量上限的缓存的测试：容量、CLOCK淘汰和统计数据
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class BoundedCacheTest {
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 200_000;
+
+    @Test
+    void neverExceedsCapacity() throws Exception {
+        for (int capacity : new int[]{1, 15, 100, 1000}) {
+            BoundedCache<Integer,Integer> cache = new BoundedCache<>(capacity);
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<Integer>> maxSizes = new ArrayList<>();
+                for(int t=0;t<THREADS;t++) {
+                    int seed = t;
+                    maxSizes.add(executor.submit(() -> {
+                        Random random = new Random(seed);
+                        int maxSize = 0;
+                        for(int i=0;i<CALLS_PER_THREAD;i++) {
+                            int key = random.nextInt(capacity * 4);
+                            assertEquals(key * 2, (int) cache.get(key, k -> k * 2));
+                            maxSize = Math.max(maxSize, cache.size());
+                        }
+                        return maxSize;
+                    }));
+                }
+                for (Future<Integer> maxSize : maxSizes) {
+                    assertTrue(maxSize.get() <= capacity, "容量" + capacity + "：" + maxSize.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+            CacheStats stats = cache.stats();
+            assertTrue(stats.getSize() <= capacity);
+            // 每次调用恰好计入一次命中或未命中
+            assertEquals((long) THREADS * CALLS_PER_THREAD, stats.getHits() + stats.getMisses());
+            assertTrue(stats.getEvictions() <= stats.getMisses());
+        }
+    }
+
+    @Test
+    void countsHitsAndMissesExactly() {
+        BoundedCache<String,String> cache = new BoundedCache<>(100);
+        AtomicInteger loads = new AtomicInteger();
+        for(int round=0;round<3;round++) {
+            for(int i=0;i<50;i++) {
+                cache.get("k" + i, key -> {
+                    loads.incrementAndGet();
+                    return key.toUpperCase();
+                });
+            }
+        }
+        CacheStats stats = cache.stats();
+        assertEquals(50, loads.get());
+        assertEquals(50, stats.getMisses());
+        assertEquals(100, stats.getHits());
+        assertEquals(0, stats.getEvictions());
+        assertEquals(50, stats.getSize());
+        assertEquals(2.0 / 3, stats.getHitRate(), 1e-9);
+
+        // getIfPresent不计入统计
+        assertEquals("K1", cache.getIfPresent("k1"));
+        assertNull(cache.getIfPresent("x"));
+        assertEquals(150, cache.stats().getHits() + cache.stats().getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(50, cache.stats().getMisses());
+        assertThrows(NullPointerException.class, () -> cache.get("null", key -> null));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String,String>(0));
+    }
+
+    @Test
+    void referencedEntrySurvivesSweep() {
+        // 容量小于32时只有一段，淘汰顺序确定
+        int capacity = 16;
+        BoundedCache<Integer,Integer> cache = new BoundedCache<>(capacity);
+        for(int i=0;i<capacity;i++) {
+            cache.get(i, k -> k);
+        }
+        assertNotNull(cache.getIfPresent(0));
+        // 指针跳过被访问过的0，淘汰1
+        cache.get(capacity, k -> k);
+        assertNotNull(cache.getIfPresent(0));
+        assertNull(cache.getIfPresent(1));
+        assertEquals(capacity, cache.size());
+        assertEquals(1, cache.stats().getEvictions());
+
+        // 再次访问0使其在下一轮中继续保留；未被访问的条目依次被淘汰
+        for(int i=1;i<capacity;i++) {
+            cache.get(capacity + i, k -> k);
+        }
+        assertNotNull(cache.getIfPresent(0));
+        for(int i=2;i<capacity;i++) {
+            assertNull(cache.getIfPresent(i), String.valueOf(i));
+        }
+        assertEquals(capacity, cache.size());
+    }
+}
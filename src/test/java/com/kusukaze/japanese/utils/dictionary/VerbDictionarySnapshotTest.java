@@ -0,0 +1,163 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 二进制快照的往返与损坏快照测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class VerbDictionarySnapshotTest {
+    private static VerbDictionary text;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void parseText() throws IOException {
+        try (InputStream in = VerbDictionarySnapshotTest.class.getResourceAsStream("/dictionary/verbDictionary.txt")) {
+            assertNotNull(in);
+            text = VerbDictionaryParser.parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    void mappedSnapshotEqualsText() throws IOException {
+        Path snapshot = dir.resolve("verbDictionary.bin");
+        VerbDictionarySnapshot.write(text, snapshot);
+        VerbDictionary mapped = VerbDictionarySnapshot.map(snapshot);
+        assertTrue(mapped.isMapped());
+        assertSameDictionary(text, mapped);
+    }
+
+    @Test
+    void heapSnapshotEqualsText() throws IOException {
+        Path snapshot = dir.resolve("verbDictionary.bin");
+        VerbDictionarySnapshot.write(text, snapshot);
+        VerbDictionary heap = VerbDictionarySnapshot.read(ByteBuffer.wrap(Files.readAllBytes(snapshot)));
+        assertFalse(heap.isMapped());
+        assertSameDictionary(text, heap);
+    }
+
+    @Test
+    void rejectsBrokenSnapshots() throws IOException {
+        Path snapshot = dir.resolve("verbDictionary.bin");
+        VerbDictionarySnapshot.write(text, snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] ^= 1;
+        assertThrows(IOException.class, () -> VerbDictionarySnapshot.read(ByteBuffer.wrap(wrongMagic)));
+
+        ByteBuffer wrongVersion = ByteBuffer.wrap(bytes.clone());
+        wrongVersion.putInt(4, VerbDictionarySnapshot.VERSION + 1);
+        IOException e = assertThrows(IOException.class, () -> VerbDictionarySnapshot.read(wrongVersion));
+        assertTrue(e.getMessage().contains("版本"), e.getMessage());
+
+        for (int length : new int[]{0, 10, 24, bytes.length / 2, bytes.length - 1}) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> VerbDictionarySnapshot.read(ByteBuffer.wrap(truncated)), "长度" + length);
+        }
+    }
+
+    @Test
+    void detectsStaleSnapshot() throws IOException {
+        Path source = dir.resolve("verbs.txt");
+        Path snapshot = dir.resolve("verbs.bin");
+        Files.write(source, "書く,かく,v5k\n".getBytes(StandardCharsets.UTF_8));
+        VerbDictionarySnapshot.write(text, snapshot);
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000));
+        assertFalse(VerbDictionarySnapshot.isUpToDate(snapshot, source));
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(3_000_000));
+        assertTrue(VerbDictionarySnapshot.isUpToDate(snapshot, source));
+        assertFalse(VerbDictionarySnapshot.isUpToDate(dir.resolve("missing.bin"), source));
+    }
+
+    @Test
+    void loaderFallsBackToTextForBrokenOrStaleSnapshot() throws IOException {
+        Path source = dir.resolve("verbs.txt");
+        Path snapshot = dir.resolve("verbs.bin");
+        Files.write(source, "書く,かく,v5k\n,たべる,v1\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000));
+
+        // 过期：快照内容是另一份字典，不应被使用
+        VerbDictionarySnapshot.write(text, snapshot);
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(1_000_000));
+        assertSmallText(VerbDictionaryLoader.load(source));
+
+        // 版本不匹配
+        ByteBuffer wrongVersion = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        wrongVersion.putInt(4, VerbDictionarySnapshot.VERSION + 1);
+        Files.write(snapshot, wrongVersion.array());
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(3_000_000));
+        assertSmallText(VerbDictionaryLoader.load(source));
+
+        // 截断
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(3_000_000));
+        assertSmallText(VerbDictionaryLoader.load(source));
+
+        // 未过期的快照直接映射
+        VerbDictionarySnapshot.write(text, snapshot);
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(3_000_000));
+        assertEquals(text.size(), VerbDictionaryLoader.load(source).size());
+    }
+
+    private static void assertSmallText(VerbDictionary dictionary) {
+        assertFalse(dictionary.isMapped());
+        assertEquals(2, dictionary.size());
+        assertEquals("書く", dictionary.getKaki(0));
+        assertEquals("たべる", dictionary.getKaki(1));
+        assertEquals("v1", dictionary.getType(1));
+    }
+
+    private static void assertSameDictionary(VerbDictionary expected, VerbDictionary actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getTypeCount(), actual.getTypeCount());
+        for(int i=0;i<expected.getTypeCount();i++) {
+            assertEquals(expected.getTypeName(i), actual.getTypeName(i));
+        }
+        for(int i=0;i<expected.size();i++) {
+            String kaki = expected.getKaki(i);
+            assertEquals(kaki, actual.getKaki(i));
+            assertEquals(expected.getNormalizedKaki(i), actual.getNormalizedKaki(i), kaki);
+            assertEquals(expected.getYomi(i), actual.getYomi(i), kaki);
+            assertEquals(expected.getTypeCode(i), actual.getTypeCode(i), kaki);
+            assertEquals(expected.findFirstByKaki(kaki), actual.findFirstByKaki(kaki), kaki);
+            assertEquals(expected.findNextByKaki(i), actual.findNextByKaki(i), kaki);
+            assertEquals(expected.findNextByNormalizedKaki(i), actual.findNextByNormalizedKaki(i), kaki);
+            assertEquals(expected.findNextByYomi(i), actual.findNextByYomi(i), kaki);
+        }
+        for (String prefix : new String[]{"", "か", "書", "たべ", "ア", "ん"}) {
+            PrimitiveIterator.OfInt e = expected.iterateByPrefix(prefix);
+            PrimitiveIterator.OfInt a = actual.iterateByPrefix(prefix);
+            while(e.hasNext()) {
+                assertTrue(a.hasNext(), prefix);
+                assertEquals(e.nextInt(), a.nextInt(), prefix);
+            }
+            assertFalse(a.hasNext(), prefix);
+        }
+    }
+}
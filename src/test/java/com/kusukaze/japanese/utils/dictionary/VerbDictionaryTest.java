@@ -0,0 +1,110 @@
+package com.kusukaze.japanese.utils.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 列式字典与构建器的测试
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class VerbDictionaryTest {
+
+    @Test
+    void storesEntriesInInsertionOrder() {
+        VerbDictionary dictionary = new VerbDictionary.Builder()
+                .add("書く", "かく", "v5k")
+                .add("カク", "かく", "v5k")
+                .add("食べる", "たべる", "v1")
+                .build();
+        assertEquals(3, dictionary.size());
+        assertEquals("書く", dictionary.getKaki(0));
+        assertEquals("かく", dictionary.getYomi(1));
+        assertEquals("カク", dictionary.getKaki(1));
+        assertEquals("v1", dictionary.getType(2));
+        assertEquals(dictionary.getTypeCode(0), dictionary.getTypeCode(1));
+        assertEquals("v5k", dictionary.getTypeName(dictionary.getTypeCode(0)));
+        assertEquals(2, dictionary.getTypeCount());
+        assertEquals(-1, dictionary.findFirstByKaki("書"));
+        assertEquals(0, VerbDictionary.EMPTY.size());
+        assertEquals(-1, VerbDictionary.EMPTY.findFirstByKaki("書く"));
+    }
+
+    @Test
+    void chainsDuplicateSpellingsInDictionaryOrder() {
+        VerbDictionary dictionary = new VerbDictionary.Builder()
+                .add("ある", "ある", "v5r-i")
+                .add("居る", "いる", "v1")
+                .add("ある", "ある", "v5r")
+                .add("居る", "おる", "v5r")
+                .add("ある", "ある", "v5r-i")
+                .build();
+        assertEquals(Arrays.asList("v5r-i", "v5r", "v5r-i"), dictionary.getTypesByKaki("ある"));
+        assertEquals(Arrays.asList("v1", "v5r"), dictionary.getTypesByKaki("居る"));
+        assertEquals(0, dictionary.getTypesByKaki("いる").size());
+
+        List<Integer> entries = new ArrayList<>();
+        for(int entry=dictionary.findFirstByKaki("ある");entry>=0;entry=dictionary.findNextByKaki(entry)) {
+            entries.add(entry);
+        }
+        assertEquals(Arrays.asList(0, 2, 4), entries);
+    }
+
+    @Test
+    void rejectsMoreThan256Types() {
+        VerbDictionary.Builder builder = new VerbDictionary.Builder();
+        for(int i=0;i<256;i++) {
+            builder.add("語" + i, "ご", "t" + i);
+        }
+        // 已有的类型不占用新的编码
+        builder.add("語", "ご", "t255");
+        assertThrows(IllegalStateException.class, () -> builder.add("語", "ご", "t256"));
+
+        VerbDictionary dictionary = builder.build();
+        assertEquals(256, dictionary.getTypeCount());
+        assertEquals(255, dictionary.getTypeCode(256));
+        assertEquals("t255", dictionary.getType(256));
+    }
+
+    @Test
+    void roundTripsTextSource() throws IOException {
+        List<String[]> lines = new ArrayList<>();
+        VerbDictionary dictionary;
+        try (InputStream in = VerbDictionaryTest.class.getResourceAsStream("/dictionary/verbDictionary.txt")) {
+            assertNotNull(in);
+            byte[] bytes = in.readAllBytes();
+            for (String line : new String(bytes, StandardCharsets.UTF_8).split("\n")) {
+                String[] values = line.split(",");
+                if(values.length >= 3) {
+                    lines.add(values);
+                }
+            }
+            dictionary = VerbDictionaryParser.parse(new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)));
+        }
+        assertEquals(lines.size(), dictionary.size());
+        for(int i=0;i<lines.size();i++) {
+            String[] values = lines.get(i);
+            String kaki = dictionary.getKaki(i);
+            // 写法为空时使用读音，サ变动词补上する
+            String expectedKaki = values[0].isEmpty() ? values[1] : values[0];
+            assertTrue(kaki.equals(expectedKaki) || kaki.equals(expectedKaki + "する"), kaki);
+            assertEquals(values[2], dictionary.getType(i), kaki);
+            assertTrue(dictionary.findFirstByKaki(kaki) <= i, kaki);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.yougen.Adjective;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbClass;
+import com.kusukaze.japanese.yougen.VerbForm;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JFR事件的测试：只在有正在进行的记录时创建事件，记录中的事件带有动词分类的编号
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class FlightRecorderEventsTest {
+    private static final String CONJUGATION = "com.kusukaze.japanese.Conjugation";
+    private static final String LOOKUP = "com.kusukaze.japanese.DictionaryLookup";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void createsEventsOnlyWhileRecording() throws Exception {
+        assertNull(FlightRecorderEvents.beginConjugation());
+        assertNull(FlightRecorderEvents.beginLookup());
+        assertNull(FlightRecorderEvents.beginDictionaryLoad());
+        // 记录开始前的变形不产生事件
+        new Verb("食べる", "v1").teForm();
+
+        Path file = dir.resolve("conjugation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CONJUGATION).withThreshold(null);
+            recording.enable(LOOKUP).withThreshold(null);
+            recording.start();
+            assertNotNull(FlightRecorderEvents.beginConjugation());
+
+            new Verb("書く", "v5k").taForm();
+            new Verb("猫", "n").appendForm(VerbForm.TE, new StringBuilder());
+            new Adjective("高い").taForm();
+            DictionaryUtils.getVerbType("書く");
+
+            recording.stop();
+            recording.dump(file);
+        }
+        assertNull(FlightRecorderEvents.beginConjugation());
+        new Verb("食べる", "v1").taForm();
+
+        List<RecordedEvent> conjugations = new ArrayList<>();
+        int lookups = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            String name = event.getEventType().getName();
+            if(CONJUGATION.equals(name)) {
+                conjugations.add(event);
+            }
+            else if(LOOKUP.equals(name)) {
+                assertEquals("書く", event.getString("key"));
+                assertTrue(event.getBoolean("hit"));
+                lookups++;
+            }
+        }
+        assertEquals(1, lookups);
+        assertEquals(3, conjugations.size(), conjugations.toString());
+
+        RecordedEvent kaku = conjugations.get(0);
+        assertEquals("書く", kaku.getString("word"));
+        assertEquals("Verb", kaku.getString("kind"));
+        assertEquals("TA", kaku.getString("form"));
+        assertEquals(VerbClass.GODAN.ordinal(), kaku.getByte("verbClass"));
+        assertTrue(kaku.getBoolean("converted"));
+
+        RecordedEvent neko = conjugations.get(1);
+        assertEquals(VerbClass.UNKNOWN.ordinal(), neko.getByte("verbClass"));
+        assertFalse(neko.getBoolean("converted"));
+
+        RecordedEvent takai = conjugations.get(2);
+        assertEquals("Adjective", takai.getString("kind"));
+        assertEquals(-1, takai.getByte("verbClass"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.kusukaze.japanese.utils.metrics;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.yougen.Adjective;
+import com.kusukaze.japanese.yougen.Verb;
+import com.kusukaze.japanese.yougen.VerbDeconjugator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 运行时统计的测试：MBean注册、关闭时不计数、还原不计入变形统计，以及直方图的分桶
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class JavaVerbMetricsTest {
+    @AfterEach
+    void disableMetrics() {
+        JavaVerbMetrics.disable();
+        JavaVerbMetrics.getMXBean().reset();
+    }
+
+    @Test
+    void mbeanIsRegisteredBeforeEnable() throws Exception {
+        assertFalse(JavaVerbMetrics.isEnabled());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(JavaVerbMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        assertEquals(false, server.getAttribute(name, "Enabled"));
+        assertInstanceOf(CompositeData.class, server.getAttribute(name, "LookupTime"));
+
+        // 运行中通过JMX开启
+        server.setAttribute(name, new Attribute("Enabled", true));
+        assertTrue(JavaVerbMetrics.isEnabled());
+        server.setAttribute(name, new Attribute("Enabled", false));
+        assertFalse(JavaVerbMetrics.isEnabled());
+    }
+
+    @Test
+    void countsNothingWhileDisabled() {
+        JavaVerbMetricsMXBean metrics = JavaVerbMetrics.getMXBean();
+        metrics.reset();
+        conjugateSome();
+        assertEquals(0, metrics.getLookupHits() + metrics.getLookupMisses());
+        assertEquals(0, metrics.getLookupTime().getCount());
+        assertAllZero(metrics.getFormCalls());
+        assertAllZero(metrics.getUnconvertedForms());
+
+        JavaVerbMetrics.enable();
+        conjugateSome();
+        assertEquals(3, metrics.getLookupHits() + metrics.getLookupMisses());
+        assertEquals(1, metrics.getLookupMisses());
+        assertEquals(3, metrics.getLookupTime().getCount());
+        assertEquals(2, (long) metrics.getFormCalls().get("Verb.TE"));
+        assertEquals(1, (long) metrics.getFormCalls().get("Verb.POTENTIAL"));
+        assertEquals(1, (long) metrics.getUnconvertedForms().get("Verb.POTENTIAL"));
+        assertEquals(1, (long) metrics.getFormCalls().get("Adjective.TA"));
+
+        // 关闭后保留已统计的数据
+        JavaVerbMetrics.disable();
+        conjugateSome();
+        assertEquals(2, (long) metrics.getFormCalls().get("Verb.TE"));
+        assertEquals(3, metrics.getLookupHits() + metrics.getLookupMisses());
+    }
+
+    @Test
+    void deconjugationDoesNotCountForms() {
+        VerbDeconjugator.initialize();
+        JavaVerbMetrics.enable();
+        JavaVerbMetricsMXBean metrics = JavaVerbMetrics.getMXBean();
+        metrics.reset();
+        assertFalse(VerbDeconjugator.deconjugate("食べさせられた").isEmpty());
+        assertFalse(VerbDeconjugator.deconjugate("行って").isEmpty());
+        assertAllZero(metrics.getFormCalls());
+        assertAllZero(metrics.getUnconvertedForms());
+
+        new Verb("食べる", "v1").taForm();
+        assertEquals(1, (long) metrics.getFormCalls().get("Verb.TA"));
+    }
+
+    @Test
+    void histogramBucketsArePowersOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getP50Nanos());
+        // 第i个桶为[2^(i-1), 2^i)，百分位数取桶的上界2^i - 1
+        long[][] cases = {{-5, 0}, {0, 0}, {1, 1}, {2, 3}, {3, 3}, {4, 7}, {1023, 1023}, {1024, 2047},
+                {Long.MAX_VALUE, Long.MAX_VALUE}};
+        for (long[] c : cases) {
+            histogram.reset();
+            histogram.record(c[0]);
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            assertEquals(1, snapshot.getCount());
+            assertEquals(c[1], snapshot.getP50Nanos(), String.valueOf(c[0]));
+            assertEquals(c[1], snapshot.getP99Nanos(), String.valueOf(c[0]));
+            assertEquals(Math.max(0, c[0]), snapshot.getMaxNanos());
+        }
+
+        histogram.reset();
+        for(int i=0;i<99;i++) {
+            histogram.record(5);
+        }
+        histogram.record(1000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(7, snapshot.getP50Nanos());
+        // 第99个记录仍在[4, 8)中
+        assertEquals(7, snapshot.getP99Nanos());
+        assertEquals(1000, snapshot.getMaxNanos());
+        assertEquals(99 * 5 + 1000, snapshot.getTotalNanos());
+        assertEquals(14.95, snapshot.getMeanNanos(), 1e-9);
+
+        histogram.record(1000);
+        assertEquals(1023, histogram.snapshot().getP99Nanos());
+    }
+
+    // 3次字典查询（1次未找到），Verb的て形2次、可能形式1次（类型未知，无法变形），形容词た形1次
+    private static void conjugateSome() {
+        DictionaryUtils.getVerbNameByKanjiOrKana("たべる");
+        DictionaryUtils.getVerbNameByKanjiOrKana("かく");
+        DictionaryUtils.getVerbNameByKanjiOrKana("ゑゑゑ");
+        Verb taberu = new Verb("食べる", "v1");
+        taberu.teForm();
+        taberu.teForm();
+        new Verb("猫", "n").potentialForm();
+        new Adjective("高い").taForm();
+    }
+
+    private static void assertAllZero(Map<String,Long> counts) {
+        assertFalse(counts.isEmpty());
+        for (Map.Entry<String,Long> entry : counts.entrySet()) {
+            assertEquals(0L, (long) entry.getValue(), entry.getKey());
+        }
+    }
+}
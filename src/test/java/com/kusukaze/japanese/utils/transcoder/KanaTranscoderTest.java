@@ -0,0 +1,120 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import com.kusukaze.japanese.utils.RomajiUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 流式转换器与整串转换的对照测试<p>
+ * 输入随机切块、输出缓冲区随机大小，随机数使用固定种子，失败时可以重现
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class KanaTranscoderTest {
+    private static final int RANDOM_STRINGS = 100_000;
+    // 含大小写转换会改变长度或依赖上下文的字母（İ、Σ）
+    private static final String ROMAJI_ALPHABET = "aaiueonnnkstchyyjfmrwgzbpdvlqx-''ＫＡ NA漢。İΣ";
+    private static final String KANA_ALPHABET = "っっッーんンあいうえおかきゃゅょぁちつてでふじうしにゃnaciy'漢ヶヴゎ a-c";
+
+    @Test
+    void romajiStreamMatchesRomajiUtils() {
+        Random random = new Random(19);
+        KanaTranscoder transcoder = KanaTranscoder.romaji2Hiragana();
+        for(int i=0;i<RANDOM_STRINGS;i++) {
+            // 首尾为字母：流式转换不删除首尾空白
+            String s = "x" + randomString(random, ROMAJI_ALPHABET, 14) + "z";
+            assertEquals(RomajiUtils.romaji2Hiragana(s), transcode(transcoder, s, random), s);
+        }
+    }
+
+    @Test
+    void kanaStreamMatchesRomajiUtils() {
+        Random random = new Random(20);
+        KanaTranscoder transcoder = KanaTranscoder.kana2Romaji();
+        for(int i=0;i<RANDOM_STRINGS;i++) {
+            String s = randomString(random, KANA_ALPHABET, 14);
+            // kana2Romaji只处理中间结果前n-1个字符内的促音（n为输入长度），流式转换总是按后一个字母处理。
+            // 末尾补足够长的非假名字符，使所有促音都落在该范围内，再去掉补的部分
+            String padding = "0".repeat(3 * s.length() + 5);
+            String expected = RomajiUtils.kana2Romaji(s + padding);
+            expected = expected.substring(0, expected.length() - padding.length());
+            assertEquals(expected, transcode(transcoder, s, random), s);
+        }
+    }
+
+    @Test
+    void writerAndReaderMatchRomajiUtils() throws IOException {
+        Random random = new Random(21);
+        String text = "x" + randomString(random, ROMAJI_ALPHABET, 200_000) + "z";
+        String expected = RomajiUtils.romaji2Hiragana(text);
+
+        StringWriter out = new StringWriter();
+        try(Writer writer = new TranscodingWriter(out, KanaTranscoder.romaji2Hiragana(), 7)) {
+            for(int i=0;i<text.length();) {
+                int end = Math.min(text.length(), i + random.nextInt(100));
+                writer.write(text, i, end - i);
+                i = end;
+            }
+        }
+        assertEquals(expected, out.toString());
+
+        StringBuilder read = new StringBuilder();
+        try(Reader reader = new TranscodingReader(new StringReader(text), KanaTranscoder.romaji2Hiragana(), 5)) {
+            char[] buffer = new char[3];
+            int n;
+            while((n = reader.read(buffer)) >= 0) {
+                read.append(buffer, 0, n);
+            }
+        }
+        assertEquals(expected, read.toString());
+    }
+
+    private static String transcode(KanaTranscoder transcoder, String s, Random random) {
+        transcoder.reset();
+        StringBuilder result = new StringBuilder();
+        CharBuffer out = CharBuffer.allocate(1 + random.nextInt(3));
+        int i = 0;
+        boolean endOfInput;
+        do {
+            int end = Math.min(s.length(), i + random.nextInt(8));
+            endOfInput = end == s.length();
+            CharBuffer in = CharBuffer.wrap(s, i, end);
+            CoderResult cr;
+            do {
+                cr = transcoder.transcode(in, out, endOfInput);
+                drain(out, result);
+            } while(cr.isOverflow());
+            i = end;
+        } while(!endOfInput);
+        while(transcoder.flush(out).isOverflow()) {
+            drain(out, result);
+        }
+        drain(out, result);
+        return result.toString();
+    }
+
+    private static void drain(CharBuffer out, StringBuilder result) {
+        out.flip();
+        result.append(out);
+        out.clear();
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for(int i=0;i<length;i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
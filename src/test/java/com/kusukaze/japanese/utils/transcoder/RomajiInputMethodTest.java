@@ -0,0 +1,116 @@
+package com.kusukaze.japanese.utils.transcoder;
+
+import com.kusukaze.japanese.utils.RomajiUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 逐键输入法的随机会话测试<p>
+ * 按键与退格随机混合，随机数使用固定种子，失败时可以重现
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class RomajiInputMethodTest {
+    private static final int SESSIONS = 100_000;
+    // '\b'表示退格
+    private static final String KEYS = "aaiueonnnkstchyyjfmrwgzbpdvlqx-''ＫＡ NA漢。\b\b\b";
+
+    @Test
+    void deltasRebuildConvertedText() {
+        Random random = new Random(20);
+        RomajiInputMethod inputMethod = new RomajiInputMethod();
+        for(int i=0;i<SESSIONS;i++) {
+            inputMethod.reset();
+            // 首尾为字母：输入法不删除首尾空白
+            StringBuilder typed = new StringBuilder("x");
+            StringBuilder host = new StringBuilder();
+            apply(host, inputMethod.type('x'));
+            int length = random.nextInt(20);
+            for(int j=0;j<length;j++) {
+                char key = KEYS.charAt(random.nextInt(KEYS.length()));
+                if(key == '\b') {
+                    if(typed.length() <= 1) {
+                        continue;
+                    }
+                    apply(host, inputMethod.backspace());
+                    typed.setLength(typed.length() - 1);
+                }
+                else {
+                    apply(host, inputMethod.type(key));
+                    typed.append(key);
+                }
+                assertEquals(inputMethod.getConvertedText(), host.toString(), typed.toString());
+            }
+            typed.append('z');
+            apply(host, inputMethod.type('z'));
+            apply(host, inputMethod.commit());
+            assertEquals(RomajiUtils.romaji2Hiragana(typed.toString()), host.toString(), typed.toString());
+        }
+    }
+
+    @Test
+    void backspaceRestoresPendingRomaji() {
+        RomajiInputMethod inputMethod = new RomajiInputMethod();
+        StringBuilder host = new StringBuilder();
+        for (char key : "kitte".toCharArray()) {
+            apply(host, inputMethod.type(key));
+        }
+        assertEquals("きって", host.toString());
+        apply(host, inputMethod.backspace());
+        apply(host, inputMethod.backspace());
+        assertEquals("き", host.toString());
+        assertEquals("t", inputMethod.getPendingRomaji());
+        apply(host, inputMethod.commit());
+        assertEquals("きt", host.toString());
+    }
+
+    @Test
+    void undoHistoryIsBounded() {
+        RomajiInputMethod inputMethod = new RomajiInputMethod(4);
+        StringBuilder host = new StringBuilder();
+        for (char key : "kakikuke".toCharArray()) {
+            apply(host, inputMethod.type(key));
+        }
+        assertEquals("かきくけ", host.toString());
+        for(int i=0;i<4;i++) {
+            apply(host, inputMethod.backspace());
+        }
+        assertEquals("かき", host.toString());
+        // 更早的按键已不在撤销记录中
+        RomajiInputMethod.Delta delta = inputMethod.backspace();
+        assertEquals(0, delta.getRetracted());
+        assertEquals("かき", inputMethod.getConvertedText());
+
+        // 撤销后继续输入，环中的记录仍然有效
+        for (char key : "sashisu".toCharArray()) {
+            apply(host, inputMethod.type(key));
+        }
+        apply(host, inputMethod.backspace());
+        assertEquals("かきさし", host.toString());
+        assertEquals("s", inputMethod.getPendingRomaji());
+
+        // 长时间输入时最多撤销DEFAULT_HISTORY_SIZE次
+        RomajiInputMethod unbounded = new RomajiInputMethod();
+        for(int i=0;i<10_000;i++) {
+            unbounded.type('a');
+        }
+        int undone = 0;
+        while(unbounded.backspace().getRetracted() > 0) {
+            undone++;
+        }
+        assertEquals(RomajiInputMethod.DEFAULT_HISTORY_SIZE, undone);
+        assertEquals(10_000 - RomajiInputMethod.DEFAULT_HISTORY_SIZE, unbounded.getConvertedText().length());
+
+        // commit后不能撤销之前的按键
+        unbounded.commit();
+        assertEquals(0, unbounded.backspace().getRetracted());
+    }
+
+    private static void apply(StringBuilder host, RomajiInputMethod.Delta delta) {
+        host.setLength(host.length() - delta.getRetracted());
+        host.append(delta.getCommitted());
+    }
+}
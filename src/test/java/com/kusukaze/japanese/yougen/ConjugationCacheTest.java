@@ -0,0 +1,124 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.cache.CacheStats;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 变形结果缓存的测试：开启、关闭缓存时各变形的结果相同，关闭后不经过缓存
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class ConjugationCacheTest {
+    private static final int SAMPLE_STEP = 17;
+    private static final String[] ADJECTIVES = {"高い", "美しい", "いい", "良い", "寒い", "かわいい", "ない", "い"};
+    private static final String[] ADJECTIVE_NOUNS = {"静か", "綺麗", "好き", "元気", "な", "高い"};
+
+    @AfterEach
+    void disableCache() {
+        ConjugationCache.disable();
+    }
+
+    @Test
+    void cachedFormsMatchUncachedForms() {
+        assertFalse(ConjugationCache.isEnabled());
+        List<String> expected = allForms();
+
+        // 容量小于条目数，同时覆盖命中和淘汰
+        ConjugationCache.enable(256);
+        assertTrue(ConjugationCache.isEnabled());
+        assertEquals(expected, allForms());
+        assertEquals(expected, allForms());
+        CacheStats stats = ConjugationCache.stats();
+        assertTrue(stats.getHits() > 0);
+        assertTrue(stats.getEvictions() > 0);
+        assertTrue(stats.getSize() <= 256);
+
+        // 容量足够时第二遍全部命中
+        ConjugationCache.enable(1 << 20);
+        assertEquals(expected, allForms());
+        long misses = ConjugationCache.stats().getMisses();
+        assertEquals(expected, allForms());
+        assertEquals(misses, ConjugationCache.stats().getMisses());
+
+        ConjugationCache.disable();
+        assertEquals(expected, allForms());
+    }
+
+    @Test
+    void disablingBypassesCache() {
+        Verb verb = new Verb("書く", "v5k");
+        Adjective adjective = new Adjective("高い");
+        ConjugationCache.enable(1024);
+        assertSame(verb.teForm(), verb.teForm());
+        assertSame(adjective.taForm(), adjective.taForm());
+        long requests = ConjugationCache.stats().getHits() + ConjugationCache.stats().getMisses();
+        assertEquals(4, requests);
+
+        ConjugationCache.disable();
+        assertFalse(ConjugationCache.isEnabled());
+        assertNotSame(verb.teForm(), verb.teForm());
+        assertNotSame(adjective.taForm(), adjective.taForm());
+        CacheStats stats = ConjugationCache.stats();
+        assertEquals(0, stats.getHits() + stats.getMisses());
+        assertEquals(0, stats.getCapacity());
+    }
+
+    @Test
+    void keyIncludesVerbTypeAndClass() {
+        ConjugationCache.enable(1024);
+        // 同一写法、不同类型
+        assertEquals("いて", new Verb("いる", "v1").teForm());
+        assertEquals("いって", new Verb("いる", "v5r").teForm());
+        assertEquals("いて", new Verb("いる", "v1").teForm());
+        // 同一写法的形容词和形容动词
+        assertNotEquals(new Adjective("高い").teForm(), new AdjectiveNoun("高い").teForm());
+        assertEquals(new AdjectiveNoun("高い").teForm(), new AdjectiveNoun("高い").teForm());
+        // 没有写法时不经过缓存
+        assertEquals(new Verb().teForm(), new Verb().teForm());
+    }
+
+    private static List<String> allForms() {
+        List<String> forms = new ArrayList<>();
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        for(int i=0;i<dictionary.size();i+=SAMPLE_STEP) {
+            Verb verb = new Verb(dictionary.getKaki(i), dictionary.getType(i));
+            for (VerbForm form : VerbForm.values()) {
+                forms.add(form.apply(verb));
+            }
+        }
+        for (String name : ADJECTIVES) {
+            Adjective adjective = new Adjective(name);
+            forms.add(adjective.teForm());
+            forms.add(adjective.naiForm());
+            forms.add(adjective.desuForm());
+            forms.add(adjective.desuMasuForm());
+            forms.add(adjective.taForm());
+            forms.add(adjective.baForm());
+            forms.add(adjective.volitionalForm());
+            forms.add(adjective.zuForm());
+        }
+        for (String name : ADJECTIVE_NOUNS) {
+            AdjectiveNoun adjectiveNoun = new AdjectiveNoun(name);
+            forms.add(adjectiveNoun.teForm());
+            forms.add(adjectiveNoun.naiForm());
+            forms.add(adjectiveNoun.desuForm());
+            forms.add(adjectiveNoun.desuMasuForm());
+            forms.add(adjectiveNoun.taForm());
+            forms.add(adjectiveNoun.zuForm());
+        }
+        return forms;
+    }
+}
@@ -0,0 +1,50 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Verb.of缓存的测试：字典重新加载前返回同一个实例，之后按新字典重新查询
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class VerbCacheTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void returnsSameInstanceUntilDictionaryChanges() throws IOException {
+        Verb kaku = Verb.of("書く");
+        assertSame(kaku, Verb.of("書く"));
+        assertEquals("v5k", kaku.getVerbType());
+        assertEquals(new Verb("書く").teForm(), kaku.teForm());
+
+        Path path = Files.write(dir.resolve("verbs.txt"), "書く,かく,v1\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            DictionaryUtils.configure(path, LoadMode.LAZY);
+            Verb reloaded = Verb.of("書く");
+            assertNotSame(kaku, reloaded);
+            assertEquals("v1", reloaded.getVerbType());
+            assertSame(reloaded, Verb.of("書く"));
+            assertNull(Verb.of("食べる").getVerbType());
+        } finally {
+            DictionaryUtils.configure(null, LoadMode.LAZY);
+        }
+        Verb restored = Verb.of("書く");
+        assertNotSame(kaku, restored);
+        assertEquals("v5k", restored.getVerbType());
+        assertSame(restored, Verb.of("書く"));
+    }
+}
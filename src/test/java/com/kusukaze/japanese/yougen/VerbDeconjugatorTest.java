@@ -0,0 +1,89 @@
+package com.kusukaze.japanese.yougen;
+
+import com.kusukaze.japanese.utils.DictionaryUtils;
+import com.kusukaze.japanese.utils.constants.NekoEmojiConstants;
+import com.kusukaze.japanese.utils.dictionary.LoadMode;
+import com.kusukaze.japanese.utils.dictionary.VerbDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 动词还原的往返测试：字典中的动词变形后应能还原出原形、类型和变形种类
+ * @author Hanatsuki Kokome
+ * @since 2026-10-18
+ */
+class VerbDeconjugatorTest {
+    // 按此间隔抽取字典条目，每个条目做全部变形
+    private static final int SAMPLE_STEP = 11;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEveryFormOfSampledVerbs() throws Exception {
+        VerbDeconjugator.initializeAsync().get(60, TimeUnit.SECONDS);
+        VerbDictionary dictionary = DictionaryUtils.getVerbDictionary();
+        for(int i=0;i<dictionary.size();i+=SAMPLE_STEP) {
+            String lemma = dictionary.getKaki(i);
+            String verbType = dictionary.getType(i);
+            Verb verb = new Verb(lemma, verbType);
+            for (VerbForm form : VerbForm.values()) {
+                String surface = form.apply(verb);
+                if(surface == null || NekoEmojiConstants.VERB_CANNOT_CHANGE_RESULT.equals(surface)) {
+                    continue;
+                }
+                List<DeconjugatedVerb> results = VerbDeconjugator.deconjugate(surface);
+                assertTrue(results.contains(new DeconjugatedVerb(lemma, verbType, form)),
+                        surface + " → " + results);
+            }
+        }
+    }
+
+    @Test
+    void returnsEveryReadingOfAmbiguousForms() {
+        List<DeconjugatedVerb> taberareru = VerbDeconjugator.deconjugate("食べられる");
+        assertTrue(taberareru.contains(new DeconjugatedVerb("食べる", "v1", VerbForm.POTENTIAL)), taberareru.toString());
+        assertTrue(taberareru.contains(new DeconjugatedVerb("食べる", "v1", VerbForm.PASSIVE)), taberareru.toString());
+
+        // 行く、行う、行る的て形相同
+        List<DeconjugatedVerb> itte = VerbDeconjugator.deconjugate("行って");
+        assertTrue(itte.contains(new DeconjugatedVerb("行く", "v5k-s", VerbForm.TE)), itte.toString());
+        assertTrue(itte.contains(new DeconjugatedVerb("行う", "v5u", VerbForm.TE)), itte.toString());
+        assertTrue(itte.contains(new DeconjugatedVerb("行る", "v5r", VerbForm.TE)), itte.toString());
+
+        List<DeconjugatedVerb> derived = VerbDeconjugator.deconjugate("食べさせられた");
+        assertTrue(derived.contains(new DeconjugatedVerb("食べる", "v1", VerbForm.CAUSATIVE_PASSIVE, VerbForm.TA)),
+                derived.toString());
+    }
+
+    @Test
+    void rejectsNonVerbs() {
+        for (String surface : new String[]{null, "", "猫", "ねこ", "abc", "。", "食べ"}) {
+            assertEquals(0, VerbDeconjugator.deconjugate(surface).size(), surface);
+        }
+    }
+
+    @Test
+    void rebuildsRulesAfterDictionaryChange() throws IOException {
+        Path path = Files.write(dir.resolve("verbs.txt"), "書く,かく,v5k\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            DictionaryUtils.configure(path, LoadMode.LAZY);
+            VerbDeconjugator.initialize();
+            assertEquals(List.of(new DeconjugatedVerb("書く", "v5k", VerbForm.TA)), VerbDeconjugator.deconjugate("書いた"));
+            assertEquals(0, VerbDeconjugator.deconjugate("食べた").size());
+        } finally {
+            DictionaryUtils.configure(null, LoadMode.LAZY);
+        }
+        assertTrue(VerbDeconjugator.deconjugate("食べた").contains(new DeconjugatedVerb("食べる", "v1", VerbForm.TA)));
+    }
+}